@@ -357,15 +357,17 @@ public class DataSeeder {
 
     private void assignWorkItemsToEpics(List<WorkItem> workItems, List<Epic> epics) {
         // Randomly assign some existing work items to epics
+        List<WorkItem> updatedWorkItems = new ArrayList<>();
         for (WorkItem workItem : workItems) {
             if (random.nextBoolean()) {
                 Epic randomEpic = epics.get(random.nextInt(epics.size()));
                 if (workItem.getProject().getId().equals(randomEpic.getProject().getId())) {
                     workItem.setEpic(randomEpic);
-                    workItemRepository.save(workItem);
+                    updatedWorkItems.add(workItem);
                 }
             }
         }
+        workItemRepository.saveAll(updatedWorkItems);
     }
 
     private List<WorkItem> createAdditionalWorkItems(Project project, List<Sprint> sprints, List<Epic> epics) {
@@ -500,6 +502,7 @@ public class DataSeeder {
         costs = costRepository.saveAll(costs);
         
         // Assign costs to epics and work items
+        List<CostAssignment> assignments = new ArrayList<>();
         for (Cost cost : costs) {
             if (random.nextBoolean() && !epics.isEmpty()) {
                 // Assign to random epic
@@ -508,7 +511,7 @@ public class DataSeeder {
                     .cost(cost)
                     .epic(epic)
                     .build();
-                costAssignmentRepository.save(epicAssignment);
+                assignments.add(epicAssignment);
             } else if (!workItems.isEmpty()) {
                 // Assign to random work item
                 WorkItem workItem = workItems.get(random.nextInt(workItems.size()));
@@ -516,13 +519,15 @@ public class DataSeeder {
                     .cost(cost)
                     .workItem(workItem)
                     .build();
-                costAssignmentRepository.save(workItemAssignment);
+                assignments.add(workItemAssignment);
             }
         }
+        costAssignmentRepository.saveAll(assignments);
     }
 
     private void createPersonAssignments(List<Person> persons, List<Epic> epics, List<WorkItem> workItems) {
         // Create assignments ensuring good distribution
+        List<PersonAssignment> assignments = new ArrayList<>();
         for (Person person : persons) {
             // Assign to 1-2 epics
             int epicAssignments = random.nextInt(2) + 1;
@@ -534,7 +539,7 @@ public class DataSeeder {
                     .hours(random.nextDouble() * 40 + 20) // 20-60 hours
                     .description("Working on " + epic.getTitle())
                     .build();
-                personAssignmentRepository.save(epicAssignment);
+                assignments.add(epicAssignment);
             }
             
             // Assign to 2-4 work items
@@ -547,8 +552,9 @@ public class DataSeeder {
                     .hours(random.nextDouble() * 20 + 10) // 10-30 hours
                     .description("Assigned to " + workItem.getTitle())
                     .build();
-                personAssignmentRepository.save(workItemAssignment);
+                assignments.add(workItemAssignment);
             }
         }
+        personAssignmentRepository.saveAll(assignments);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.thesis.projectmanagement.config;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// JDBC counters for one HTTP request. QueryMetricsFilter opens the scope and
+// QueryMetricsDataSource feeds it. The counters are atomic so that work handed
+// to other threads (see attach) can report into the same request.
+public final class QueryMetrics {
+    public static final String COUNT_HEADER = "X-Query-Count";
+    public static final String ROWS_HEADER = "X-Query-Rows";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    // Lets the cross-origin frontend read Server-Timing through the Resource Timing API
+    public static final String TIMING_ALLOW_ORIGIN_HEADER = "Timing-Allow-Origin";
+
+    private static final ThreadLocal<QueryMetrics> CURRENT = new ThreadLocal<>();
+
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong nanos = new AtomicLong();
+
+    public static QueryMetrics current() {
+        return CURRENT.get();
+    }
+
+    // Binds the metrics to the calling thread until the scope is closed
+    public static Scope attach(QueryMetrics metrics) {
+        QueryMetrics previous = CURRENT.get();
+        CURRENT.set(metrics);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    void recordStatement(long elapsedNanos) {
+        statements.incrementAndGet();
+        nanos.addAndGet(elapsedNanos);
+    }
+
+    void recordRow() {
+        rows.incrementAndGet();
+    }
+
+    public long statements() {
+        return statements.get();
+    }
+
+    public long rows() {
+        return rows.get();
+    }
+
+    public long nanos() {
+        return nanos.get();
+    }
+
+    public Map<String, String> headers() {
+        double millis = (double) nanos() / TimeUnit.MILLISECONDS.toNanos(1);
+        return Map.of(
+                COUNT_HEADER, Long.toString(statements()),
+                ROWS_HEADER, Long.toString(rows()),
+                SERVER_TIMING_HEADER, String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d queries\"", millis, statements()),
+                TIMING_ALLOW_ORIGIN_HEADER, "*");
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
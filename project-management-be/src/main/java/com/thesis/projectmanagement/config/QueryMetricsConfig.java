@@ -0,0 +1,27 @@
+package com.thesis.projectmanagement.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class QueryMetricsConfig {
+
+    // Wraps only the application's main "dataSource" bean (Boot's pool, or the replica router's
+    // lazy proxy), so statements routed through the replica setup are not counted twice
+    @Bean
+    public static BeanPostProcessor queryMetricsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && beanName.equals("dataSource")
+                        && !(bean instanceof QueryMetricsDataSource)) {
+                    return new QueryMetricsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
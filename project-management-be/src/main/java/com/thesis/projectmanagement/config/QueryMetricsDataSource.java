@@ -0,0 +1,88 @@
+package com.thesis.projectmanagement.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// Wraps connections, statements and result sets in thin JDK proxies that report
+// executed statements, their JDBC time and the rows read to the current QueryMetrics.
+// Outside a request scope the proxies only delegate.
+public class QueryMetricsDataSource extends DelegatingDataSource {
+
+    public QueryMetricsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, super.getConnection(username, password));
+    }
+
+    private static <T> T wrap(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(QueryMetricsDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, new Handler(target)));
+    }
+
+    private static Object wrapResult(Object result) {
+        if (result instanceof CallableStatement statement) {
+            return wrap(CallableStatement.class, statement);
+        }
+        if (result instanceof PreparedStatement statement) {
+            return wrap(PreparedStatement.class, statement);
+        }
+        if (result instanceof Statement statement) {
+            return wrap(Statement.class, statement);
+        }
+        if (result instanceof ResultSet resultSet) {
+            return wrap(ResultSet.class, resultSet);
+        }
+        return result;
+    }
+
+    private record Handler(Object target) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+
+            QueryMetrics metrics = QueryMetrics.current();
+            boolean execute = target instanceof Statement && name.startsWith("execute");
+            long start = metrics != null && execute ? System.nanoTime() : 0L;
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                if (metrics != null && execute) {
+                    metrics.recordStatement(System.nanoTime() - start);
+                }
+            }
+
+            if (metrics != null && target instanceof ResultSet && name.equals("next") && Boolean.TRUE.equals(result)) {
+                metrics.recordRow();
+            }
+            return name.equals("unwrap") ? result : wrapResult(result);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.thesis.projectmanagement.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Opens a QueryMetrics scope per request and records the totals per endpoint pattern.
+// Responses with a body get their headers from QueryMetricsResponseAdvice, because the
+// body is already committed when the chain returns here.
+@Component
+@RequiredArgsConstructor
+public class QueryMetricsFilter extends OncePerRequestFilter {
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryMetrics metrics = new QueryMetrics();
+        try (QueryMetrics.Scope ignored = QueryMetrics.attach(metrics)) {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!response.isCommitted()) {
+                metrics.headers().forEach(response::setHeader);
+            }
+            record(request, response, metrics);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, QueryMetrics metrics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of(
+                "uri", pattern != null ? pattern.toString() : "UNKNOWN",
+                "method", request.getMethod(),
+                "status", Integer.toString(response.getStatus()));
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(metrics.statements());
+        DistributionSummary.builder("http.server.requests.sql.rows")
+                .baseUnit("rows")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(metrics.rows());
+        Timer.builder("http.server.requests.sql.time")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(metrics.nanos(), TimeUnit.NANOSECONDS);
+    }
+}
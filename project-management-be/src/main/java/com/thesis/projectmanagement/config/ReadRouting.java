@@ -0,0 +1,75 @@
+package com.thesis.projectmanagement.config;
+
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+// Read-your-writes state of one client request, consulted by ReplicaRoutingDataSource.
+// A response that committed a write carries the commit time in X-Last-Write; the client sends it
+// back, and until the read-your-writes window has passed its reads go to the primary. Other
+// clients keep reading from the replicas. Reads whose result outlives the request (a cached
+// snapshot, an ETag) are pinned to the primary with onPrimary, whoever asked for them.
+public final class ReadRouting {
+    public static final String LAST_WRITE_HEADER = "X-Last-Write";
+
+    private static final ThreadLocal<ReadRouting> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final LongConsumer onCommit;
+    private volatile long lastWriteMillis;
+
+    // lastWriteMillis is the client's last commit time, or 0 if it sent none
+    public ReadRouting(long lastWriteMillis, LongConsumer onCommit) {
+        this.lastWriteMillis = lastWriteMillis;
+        this.onCommit = onCommit;
+    }
+
+    public static ReadRouting current() {
+        return CURRENT.get();
+    }
+
+    // Binds the state to the calling thread until the scope is closed
+    public static Scope attach(ReadRouting routing) {
+        ReadRouting previous = CURRENT.get();
+        CURRENT.set(routing);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    // Runs the reads on the primary; the connection must be obtained inside
+    public static <T> T onPrimary(Supplier<T> reads) {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+
+    static boolean pinned() {
+        return PINNED.get() != null;
+    }
+
+    boolean wroteWithin(long windowMillis, long nowMillis) {
+        return nowMillis - lastWriteMillis < windowMillis;
+    }
+
+    void committed(long commitMillis) {
+        lastWriteMillis = commitMillis;
+        onCommit.accept(commitMillis);
+    }
+
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,41 @@
+package com.thesis.projectmanagement.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Opens a ReadRouting scope per request from the client's X-Last-Write header and answers a
+// committed write with a new one. Writes commit inside the service call, before the handler
+// writes the body, so the header can still be set at that point.
+public class ReadRoutingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReadRouting routing = new ReadRouting(lastWrite(request), commitMillis -> {
+            if (!response.isCommitted()) {
+                response.setHeader(ReadRouting.LAST_WRITE_HEADER, Long.toString(commitMillis));
+            }
+        });
+        try (ReadRouting.Scope ignored = ReadRouting.attach(routing)) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    // A missing or malformed header only means the client has not written recently
+    private static long lastWrite(HttpServletRequest request) {
+        String header = request.getHeader(ReadRouting.LAST_WRITE_HEADER);
+        if (header == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
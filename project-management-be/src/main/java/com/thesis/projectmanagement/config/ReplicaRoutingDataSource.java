@@ -0,0 +1,77 @@
+package com.thesis.projectmanagement.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Sends read-only transactions to the replicas in turn and everything else to the primary.
+// A client's reads stay on the primary for a short window after its own write commits (see
+// ReadRouting), so it sees its changes even if the replicas are lagging behind; reads pinned
+// with ReadRouting.onPrimary always go there.
+// Must sit behind a LazyConnectionDataSourceProxy: the routing decision needs the
+// transaction's read-only flag, which is only known after the transaction has begun.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+    private static final String PRIMARY = "primary";
+
+    private final List<DataSource> pools = new ArrayList<>();
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final long readYourWritesMillis;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas, Duration readYourWritesWindow) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        pools.add(primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + (i + 1);
+            targets.put(key, replicas.get(i));
+            replicaKeys.add(key);
+            pools.add(replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.readYourWritesMillis = readYourWritesWindow.toMillis();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        ReadRouting routing = ReadRouting.current();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (routing != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        routing.committed(System.currentTimeMillis());
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty() || ReadRouting.pinned()
+                || (routing != null && routing.wroteWithin(readYourWritesMillis, System.currentTimeMillis()))) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    // The pools are not beans of their own, so they are shut down with the router
+    @Override
+    public void close() throws IOException {
+        for (DataSource pool : pools) {
+            if (pool instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.thesis.projectmanagement.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class SecondLevelCacheConfig {
+    // Must match the regions named by @Cache / @NaturalIdCache on the entities
+    private static final List<String> REGIONS = List.of("projects", "persons", "persons-by-email", "sprints", "epics");
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(
+            @Value("${app.cache.entity.ttl:10m}") Duration ttl,
+            @Value("${app.cache.entity.max-size:10000}") long maxSize) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, createCacheManager(ttl, maxSize));
+    }
+
+    private CacheManager createCacheManager(Duration ttl, long maxSize) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // A manager per application context, so contexts (e.g. in tests) never share cached rows;
+        // Hibernate closes it together with the session factory
+        URI uri = URI.create("urn:project-management:second-level-cache:" + UUID.randomUUID());
+        CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            configuration.setStatisticsEnabled(true);
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+}
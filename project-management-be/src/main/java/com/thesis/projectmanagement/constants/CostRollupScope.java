@@ -0,0 +1,8 @@
+package com.thesis.projectmanagement.constants;
+
+public enum CostRollupScope {
+    WORK_ITEM,    // Costs assigned to the work item
+    EPIC,         // Costs assigned to the epic or to its work items
+    PROJECT,      // Costs assigned to the project's epics or work items
+    CATEGORY      // All costs of the category, assigned or not
+}
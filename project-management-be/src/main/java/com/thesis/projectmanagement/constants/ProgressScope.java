@@ -0,0 +1,6 @@
+package com.thesis.projectmanagement.constants;
+
+public enum ProgressScope {
+    EPIC,       // Work items of an epic, keyed by epic id
+    SPRINT      // Work items planned into a sprint, keyed by sprint id
+}
@@ -0,0 +1,42 @@
+package com.thesis.projectmanagement.controller;
+
+import com.thesis.projectmanagement.config.QueryMetrics;
+import com.thesis.projectmanagement.dto.BatchRequestDTO;
+import com.thesis.projectmanagement.dto.BatchResponseDTO;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// Many GETs in one round-trip; responses come back in request order (see BatchDispatcher)
+@RestController
+@RequestMapping("/api/batch")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", exposedHeaders = {
+        QueryMetrics.COUNT_HEADER, QueryMetrics.ROWS_HEADER, QueryMetrics.SERVER_TIMING_HEADER})
+public class BatchController {
+    static final int MAX_REQUESTS = 100;
+
+    private final BatchDispatcher batchDispatcher;
+
+    @PostMapping
+    public ResponseEntity<List<BatchResponseDTO>> batch(@RequestBody BatchRequestDTO batch,
+                                                        HttpServletRequest request,
+                                                        HttpServletResponse response) throws ServletException {
+        List<String> requests = batch.getRequests() != null ? batch.getRequests() : List.of();
+        if (requests.size() > MAX_REQUESTS) {
+            throw new InvalidBatchRequestException("A batch holds at most " + MAX_REQUESTS + " requests");
+        }
+        for (String path : requests) {
+            String target = path != null ? path.split("[?#]", 2)[0] : "";
+            if (!target.startsWith("/api/") || target.equals("/api/batch") || target.startsWith("/api/batch/")) {
+                throw new InvalidBatchRequestException("Not a batchable request: " + path);
+            }
+        }
+        return ResponseEntity.ok(batchDispatcher.dispatch(request, response, requests, batch.isConsistent()));
+    }
+}
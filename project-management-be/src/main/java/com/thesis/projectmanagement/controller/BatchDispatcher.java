@@ -0,0 +1,206 @@
+package com.thesis.projectmanagement.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thesis.projectmanagement.config.QueryMetrics;
+import com.thesis.projectmanagement.config.ReadRouting;
+import com.thesis.projectmanagement.dto.BatchResponseDTO;
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+// Runs the GETs of a batch through a DispatcherServlet of its own, so every request sees the
+// same controllers, advice and interceptors as if it had come over HTTP. By default the requests
+// run concurrently on virtual threads, each with its own read transaction. In consistent mode
+// they share one read-only repeatable-read transaction on the primary; a JDBC connection serves
+// one thread at a time, so they then run one after another on the calling thread.
+@Component
+class BatchDispatcher {
+    static final String SERVLET_NAME = "batchDispatcher";
+    // Per-request query counters; the batch response reports the totals instead
+    private static final Set<String> OMITTED_HEADERS = Set.of(
+            QueryMetrics.COUNT_HEADER, QueryMetrics.ROWS_HEADER, QueryMetrics.SERVER_TIMING_HEADER,
+            QueryMetrics.TIMING_ALLOW_ORIGIN_HEADER, HttpHeaders.CONTENT_LENGTH);
+
+    private final WebApplicationContext context;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate snapshotTemplate;
+    private final int maxConcurrency;
+    private volatile DispatcherServlet dispatcherServlet;
+
+    BatchDispatcher(WebApplicationContext context,
+                    ObjectMapper objectMapper,
+                    PlatformTransactionManager transactionManager,
+                    @Value("${app.batch.max-concurrency:8}") int maxConcurrency) {
+        this.context = context;
+        this.objectMapper = objectMapper;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setReadOnly(true);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    List<BatchResponseDTO> dispatch(HttpServletRequest batchRequest, HttpServletResponse batchResponse,
+                                    List<String> requests, boolean consistent) throws ServletException {
+        DispatcherServlet servlet = servlet(batchRequest.getServletContext());
+        if (consistent) {
+            // The shared connection is chosen by the first statement, whichever request runs it;
+            // pinned reads (ETags, dashboard snapshots) later join it, so it has to be the primary
+            return ReadRouting.onPrimary(() -> snapshotTemplate.execute(status -> {
+                List<BatchResponseDTO> responses = new ArrayList<>();
+                for (String request : requests) {
+                    responses.add(dispatch(servlet, batchRequest, batchResponse, request));
+                }
+                // Nothing was written; rolling back also keeps a failed request from failing the commit
+                status.setRollbackOnly();
+                return responses;
+            }));
+        }
+
+        // Virtual threads inherit no thread locals, so the batch's query counters and the client's
+        // read-your-writes state are attached explicitly
+        QueryMetrics metrics = QueryMetrics.current();
+        ReadRouting routing = ReadRouting.current();
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<Future<BatchResponseDTO>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String request : requests) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try (QueryMetrics.Scope ignored = QueryMetrics.attach(metrics);
+                         ReadRouting.Scope alsoIgnored = ReadRouting.attach(routing)) {
+                        return dispatch(servlet, batchRequest, batchResponse, request);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            List<BatchResponseDTO> responses = new ArrayList<>();
+            for (Future<BatchResponseDTO> future : futures) {
+                responses.add(future.get());
+            }
+            return responses;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServletException("Batch interrupted", e);
+        } catch (ExecutionException e) {
+            throw new ServletException("Batch request failed", e.getCause());
+        }
+    }
+
+    // Failures are reported per request, like separate HTTP calls would report them
+    private BatchResponseDTO dispatch(DispatcherServlet servlet, HttpServletRequest batchRequest,
+                                      HttpServletResponse batchResponse, String request) {
+        BatchServletResponse response = new BatchServletResponse(batchResponse);
+        try {
+            servlet.service(new BatchServletRequest(batchRequest, request), response);
+        } catch (Exception e) {
+            Throwable cause = e instanceof ServletException && e.getCause() != null ? e.getCause() : e;
+            return BatchResponseDTO.builder()
+                    .request(request)
+                    .status(HttpServletResponse.SC_INTERNAL_SERVER_ERROR)
+                    .headers(Map.of())
+                    .body(quote(cause.getMessage()))
+                    .build();
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        response.headers().forEach((name, values) -> {
+            if (OMITTED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                headers.put(name, String.join(", ", values));
+            }
+        });
+        return BatchResponseDTO.builder()
+                .request(request)
+                .status(response.getStatus())
+                .headers(headers)
+                .body(body(response))
+                .build();
+    }
+
+    private String body(BatchServletResponse response) {
+        String body = response.bodyAsString();
+        if (body.isEmpty()) {
+            return quote(response.errorMessage());
+        }
+        MediaType mediaType = response.mediaType();
+        boolean json = mediaType != null
+                && (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) || "json".equals(mediaType.getSubtypeSuffix()));
+        return json ? body : quote(body);
+    }
+
+    private String quote(String text) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(text);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Created on first use from the running context; the context is already refreshed, so
+    // init only picks up its handler mappings, adapters and exception resolvers
+    private DispatcherServlet servlet(ServletContext servletContext) throws ServletException {
+        DispatcherServlet servlet = dispatcherServlet;
+        if (servlet == null) {
+            synchronized (this) {
+                servlet = dispatcherServlet;
+                if (servlet == null) {
+                    servlet = new DispatcherServlet(context);
+                    servlet.setPublishContext(false);
+                    servlet.init(new BatchServletConfig(servletContext));
+                    dispatcherServlet = servlet;
+                }
+            }
+        }
+        return servlet;
+    }
+
+    private record BatchServletConfig(ServletContext servletContext) implements ServletConfig {
+        @Override
+        public String getServletName() {
+            return SERVLET_NAME;
+        }
+
+        @Override
+        public ServletContext getServletContext() {
+            return servletContext;
+        }
+
+        @Override
+        public String getInitParameter(String name) {
+            return null;
+        }
+
+        @Override
+        public Enumeration<String> getInitParameterNames() {
+            return Collections.emptyEnumeration();
+        }
+    }
+}
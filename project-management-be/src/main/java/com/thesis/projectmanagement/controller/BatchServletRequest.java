@@ -0,0 +1,150 @@
+package com.thesis.projectmanagement.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// One GET of a batch, seen by the DispatcherServlet as a request of its own. Path, query and
+// attributes are private to it; everything else (host, Accept, locale, session) is read from
+// the batch request. Conditional and body headers of the batch POST are hidden.
+final class BatchServletRequest extends HttpServletRequestWrapper {
+    private static final Set<String> HIDDEN_HEADERS = Set.of(
+            "if-match", "if-none-match", "if-modified-since", "if-unmodified-since", "if-range",
+            "content-type", "content-length");
+
+    private final String requestUri;
+    private final String servletPath;
+    private final String queryString;
+    private final Map<String, String[]> parameters = new LinkedHashMap<>();
+    // The DispatcherServlet keeps per-request state (path variables, handler) in attributes
+    private final Map<String, Object> attributes = new HashMap<>();
+
+    BatchServletRequest(HttpServletRequest batchRequest, String request) {
+        super(batchRequest);
+        int query = request.indexOf('?');
+        this.servletPath = query < 0 ? request : request.substring(0, query);
+        this.queryString = query < 0 ? null : request.substring(query + 1);
+        this.requestUri = batchRequest.getContextPath() + servletPath;
+        UriComponentsBuilder.newInstance().query(queryString).build().getQueryParams()
+                .forEach((name, values) -> parameters.put(decode(name), values.stream()
+                        .map(value -> value != null ? decode(value) : "")
+                        .toArray(String[]::new)));
+    }
+
+    private static String decode(String text) {
+        return URLDecoder.decode(text, StandardCharsets.UTF_8);
+    }
+
+    private static boolean hidden(String name) {
+        return HIDDEN_HEADERS.contains(name.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public String getMethod() {
+        return "GET";
+    }
+
+    @Override
+    public String getRequestURI() {
+        return requestUri;
+    }
+
+    @Override
+    public String getServletPath() {
+        return servletPath;
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values != null ? values[0] : null;
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return hidden(name) ? null : super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        return hidden(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                .filter(name -> !hidden(name))
+                .toList());
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        return hidden(name) ? -1 : super.getDateHeader(name);
+    }
+
+    @Override
+    public String getContentType() {
+        return null;
+    }
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(new ArrayList<>(attributes.keySet()));
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    // Responses are captured once service() returns, so nothing may complete later
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+}
@@ -0,0 +1,189 @@
+package com.thesis.projectmanagement.controller;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// Captures status, headers and body of one batched GET in memory. The body is cached by
+// ContentCachingResponseWrapper and never copied out; status and headers are kept by the
+// wrapped Capture, so nothing reaches the batch response shared by all requests of the batch.
+final class BatchServletResponse extends ContentCachingResponseWrapper {
+
+    BatchServletResponse(HttpServletResponse batchResponse) {
+        super(new Capture(batchResponse));
+    }
+
+    private Capture capture() {
+        return (Capture) getResponse();
+    }
+
+    HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(capture().headers);
+        if (getContentType() != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, getContentType());
+        }
+        return headers;
+    }
+
+    String errorMessage() {
+        return capture().errorMessage;
+    }
+
+    MediaType mediaType() {
+        return getContentType() != null ? MediaType.parseMediaType(getContentType()) : null;
+    }
+
+    String bodyAsString() {
+        return new String(getContentAsByteArray(), charset());
+    }
+
+    private Charset charset() {
+        if (capture().characterEncoding != null) {
+            return Charset.forName(capture().characterEncoding);
+        }
+        MediaType mediaType = mediaType();
+        return mediaType != null && mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+    }
+
+    private static final class Capture extends HttpServletResponseWrapper {
+        private final HttpHeaders headers = new HttpHeaders();
+        private int status = SC_OK;
+        private String errorMessage;
+        private String contentType;
+        private String characterEncoding;
+        private boolean committed;
+
+        Capture(HttpServletResponse batchResponse) {
+            super(batchResponse);
+        }
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public void setStatus(int status) {
+            if (!committed) {
+                this.status = status;
+            }
+        }
+
+        @Override
+        public void sendError(int status) {
+            sendError(status, null);
+        }
+
+        @Override
+        public void sendError(int status, String message) {
+            this.status = status;
+            this.errorMessage = message;
+            this.committed = true;
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return committed;
+        }
+
+        @Override
+        public boolean containsHeader(String name) {
+            return headers.containsKey(name);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return headers.getFirst(name);
+        }
+
+        @Override
+        public Collection<String> getHeaders(String name) {
+            List<String> values = headers.get(name);
+            return values != null ? new ArrayList<>(values) : List.of();
+        }
+
+        @Override
+        public Collection<String> getHeaderNames() {
+            return new ArrayList<>(headers.keySet());
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+                setContentType(value);
+            } else {
+                headers.set(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+                setContentType(value);
+            } else {
+                headers.add(name, value);
+            }
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public void setContentType(String contentType) {
+            this.contentType = contentType;
+        }
+
+        @Override
+        public String getCharacterEncoding() {
+            return characterEncoding != null ? characterEncoding : StandardCharsets.UTF_8.name();
+        }
+
+        @Override
+        public void setCharacterEncoding(String characterEncoding) {
+            this.characterEncoding = characterEncoding;
+        }
+
+        @Override
+        public void reset() {
+            headers.clear();
+            status = SC_OK;
+            errorMessage = null;
+            contentType = null;
+            characterEncoding = null;
+        }
+
+        // Only reached when the cached body would be copied out (e.g. on sendError); it is dropped
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return new ServletOutputStream() {
+                @Override
+                public void write(int b) {
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                    // As the servlet spec requires outside async processing; reported as that request's 500
+                    throw new IllegalStateException("Batched requests are written synchronously; non-blocking output is not available");
+                }
+            };
+        }
+    }
+}
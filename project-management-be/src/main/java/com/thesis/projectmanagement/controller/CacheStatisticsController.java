@@ -0,0 +1,24 @@
+package com.thesis.projectmanagement.controller;
+
+import com.thesis.projectmanagement.config.QueryMetrics;
+import com.thesis.projectmanagement.dto.CacheRegionStatisticsDTO;
+import com.thesis.projectmanagement.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", exposedHeaders = {
+        QueryMetrics.COUNT_HEADER, QueryMetrics.ROWS_HEADER, QueryMetrics.SERVER_TIMING_HEADER})
+public class CacheStatisticsController {
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping("/statistics")
+    public ResponseEntity<List<CacheRegionStatisticsDTO>> getSecondLevelCacheStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getSecondLevelCacheStatistics());
+    }
+}
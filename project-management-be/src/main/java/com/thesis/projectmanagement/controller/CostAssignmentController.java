@@ -1,8 +1,12 @@
 package com.thesis.projectmanagement.controller;
 
+import com.thesis.projectmanagement.config.QueryMetrics;
+import com.thesis.projectmanagement.config.ReadRouting;
 import com.thesis.projectmanagement.dto.CostAssignmentDTO;
+import com.thesis.projectmanagement.dto.CursorRequest;
 import com.thesis.projectmanagement.service.CostAssignmentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,50 +15,59 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/cost-assignments")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.LINK, HttpHeaders.ETAG, ReadRouting.LAST_WRITE_HEADER,
+        QueryMetrics.COUNT_HEADER, QueryMetrics.ROWS_HEADER, QueryMetrics.SERVER_TIMING_HEADER})
 public class CostAssignmentController {
     private final CostAssignmentService costAssignmentService;
 
     @GetMapping
-    public ResponseEntity<List<CostAssignmentDTO>> getAllCostAssignments() {
-        return ResponseEntity.ok(costAssignmentService.getAllCostAssignments());
+    public ResponseEntity<List<CostAssignmentDTO>> getAllCostAssignments(CursorRequest cursor,
+                                                                         @RequestParam(required = false) List<Long> ids) {
+        if (ids != null) {
+            return ResponseEntity.ok(costAssignmentService.getCostAssignmentsByIds(ids));
+        }
+        return CursorLinks.page(costAssignmentService.getAllCostAssignments(cursor), cursor, CostAssignmentDTO::getId);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<CostAssignmentDTO> getCostAssignment(@PathVariable Long id) {
-        return ResponseEntity.ok(costAssignmentService.getCostAssignment(id));
+        return ETags.ok(costAssignmentService.getCostAssignment(id), CostAssignmentDTO::getVersion);
     }
 
     @GetMapping("/cost/{costId}")
-    public ResponseEntity<List<CostAssignmentDTO>> getCostAssignmentsByCostId(@PathVariable Long costId) {
-        return ResponseEntity.ok(costAssignmentService.getCostAssignmentsByCostId(costId));
+    public ResponseEntity<List<CostAssignmentDTO>> getCostAssignmentsByCostId(@PathVariable Long costId, CursorRequest cursor) {
+        return CursorLinks.page(costAssignmentService.getCostAssignmentsByCostId(costId, cursor), cursor, CostAssignmentDTO::getId);
     }
 
     @GetMapping("/epic/{epicId}")
-    public ResponseEntity<List<CostAssignmentDTO>> getCostAssignmentsByEpicId(@PathVariable Long epicId) {
-        return ResponseEntity.ok(costAssignmentService.getCostAssignmentsByEpicId(epicId));
+    public ResponseEntity<List<CostAssignmentDTO>> getCostAssignmentsByEpicId(@PathVariable Long epicId, CursorRequest cursor) {
+        return CursorLinks.page(costAssignmentService.getCostAssignmentsByEpicId(epicId, cursor), cursor, CostAssignmentDTO::getId);
     }
 
     @GetMapping("/work-item/{workItemId}")
-    public ResponseEntity<List<CostAssignmentDTO>> getCostAssignmentsByWorkItemId(@PathVariable Long workItemId) {
-        return ResponseEntity.ok(costAssignmentService.getCostAssignmentsByWorkItemId(workItemId));
+    public ResponseEntity<List<CostAssignmentDTO>> getCostAssignmentsByWorkItemId(@PathVariable Long workItemId, CursorRequest cursor) {
+        return CursorLinks.page(costAssignmentService.getCostAssignmentsByWorkItemId(workItemId, cursor), cursor, CostAssignmentDTO::getId);
     }
 
     @PostMapping
     public ResponseEntity<CostAssignmentDTO> createCostAssignment(@RequestBody CostAssignmentDTO costAssignmentDTO) {
-        return ResponseEntity.ok(costAssignmentService.createCostAssignment(costAssignmentDTO));
+        return ETags.ok(costAssignmentService.createCostAssignment(costAssignmentDTO), CostAssignmentDTO::getVersion);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<CostAssignmentDTO> updateCostAssignment(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody CostAssignmentDTO costAssignmentDTO) {
-        return ResponseEntity.ok(costAssignmentService.updateCostAssignment(id, costAssignmentDTO));
+        costAssignmentDTO.setVersion(ETags.expectedVersion(ifMatch, costAssignmentDTO.getVersion()));
+        return ETags.ok(costAssignmentService.updateCostAssignment(id, costAssignmentDTO), CostAssignmentDTO::getVersion);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteCostAssignment(@PathVariable Long id) {
-        costAssignmentService.deleteCostAssignment(id);
+    public ResponseEntity<Void> deleteCostAssignment(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        costAssignmentService.deleteCostAssignment(id, ETags.expectedVersion(ifMatch, null));
         return ResponseEntity.noContent().build();
     }
 } 
\ No newline at end of file
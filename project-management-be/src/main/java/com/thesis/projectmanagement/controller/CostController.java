@@ -1,8 +1,15 @@
 package com.thesis.projectmanagement.controller;
 
+import com.thesis.projectmanagement.config.QueryMetrics;
+import com.thesis.projectmanagement.config.ReadRouting;
+import com.thesis.projectmanagement.constants.CostRollupScope;
 import com.thesis.projectmanagement.dto.CostDTO;
+import com.thesis.projectmanagement.dto.CostTotalDTO;
+import com.thesis.projectmanagement.dto.CursorRequest;
+import com.thesis.projectmanagement.service.CostRollupService;
 import com.thesis.projectmanagement.service.CostService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,40 +18,71 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/costs")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.LINK, HttpHeaders.ETAG, ReadRouting.LAST_WRITE_HEADER,
+        QueryMetrics.COUNT_HEADER, QueryMetrics.ROWS_HEADER, QueryMetrics.SERVER_TIMING_HEADER})
 public class CostController {
     private final CostService costService;
+    private final CostRollupService costRollupService;
 
     @GetMapping
-    public ResponseEntity<List<CostDTO>> getAllCosts() {
-        return ResponseEntity.ok(costService.getAllCosts());
+    public ResponseEntity<List<CostDTO>> getAllCosts(CursorRequest cursor,
+                                                     @RequestParam(required = false) List<Long> ids) {
+        if (ids != null) {
+            return ResponseEntity.ok(costService.getCostsByIds(ids));
+        }
+        return CursorLinks.page(costService.getAllCosts(cursor), cursor, CostDTO::getId);
+    }
+
+    // Precomputed totals, one row read each (see CostRollupService)
+    @GetMapping("/totals/work-item/{workItemId}")
+    public ResponseEntity<CostTotalDTO> getWorkItemTotal(@PathVariable Long workItemId) {
+        return ResponseEntity.ok(costRollupService.getTotal(CostRollupScope.WORK_ITEM, String.valueOf(workItemId)));
+    }
+
+    @GetMapping("/totals/epic/{epicId}")
+    public ResponseEntity<CostTotalDTO> getEpicTotal(@PathVariable Long epicId) {
+        return ResponseEntity.ok(costRollupService.getTotal(CostRollupScope.EPIC, String.valueOf(epicId)));
+    }
+
+    @GetMapping("/totals/project/{projectId}")
+    public ResponseEntity<CostTotalDTO> getProjectTotal(@PathVariable Long projectId) {
+        return ResponseEntity.ok(costRollupService.getTotal(CostRollupScope.PROJECT, String.valueOf(projectId)));
+    }
+
+    @GetMapping("/totals/category/{category}")
+    public ResponseEntity<CostTotalDTO> getCategoryTotal(@PathVariable String category) {
+        return ResponseEntity.ok(costRollupService.getTotal(CostRollupScope.CATEGORY, category));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<CostDTO> getCost(@PathVariable Long id) {
-        return ResponseEntity.ok(costService.getCostById(id));
+        return ETags.ok(costService.getCostById(id), CostDTO::getVersion);
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<CostDTO>> getCostsByCategory(@PathVariable String category) {
-        return ResponseEntity.ok(costService.getCostsByCategory(category));
+    public ResponseEntity<List<CostDTO>> getCostsByCategory(@PathVariable String category, CursorRequest cursor) {
+        return CursorLinks.page(costService.getCostsByCategory(category, cursor), cursor, CostDTO::getId);
     }
 
     @PostMapping
     public ResponseEntity<CostDTO> createCost(@RequestBody CostDTO costDTO) {
-        return ResponseEntity.ok(costService.createCost(costDTO));
+        return ETags.ok(costService.createCost(costDTO), CostDTO::getVersion);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<CostDTO> updateCost(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody CostDTO costDTO) {
-        return ResponseEntity.ok(costService.updateCost(id, costDTO));
+        costDTO.setVersion(ETags.expectedVersion(ifMatch, costDTO.getVersion()));
+        return ETags.ok(costService.updateCost(id, costDTO), CostDTO::getVersion);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteCost(@PathVariable Long id) {
-        costService.deleteCost(id);
+    public ResponseEntity<Void> deleteCost(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        costService.deleteCost(id, ETags.expectedVersion(ifMatch, null));
         return ResponseEntity.noContent().build();
     }
 } 
\ No newline at end of file
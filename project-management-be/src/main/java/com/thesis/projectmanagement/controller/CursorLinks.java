@@ -0,0 +1,34 @@
+package com.thesis.projectmanagement.controller;
+
+import com.thesis.projectmanagement.dto.CursorRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Builds list responses for keyset-paged endpoints, adding a rel="next" Link header
+// whenever a page came back full and more rows may follow
+final class CursorLinks {
+    private CursorLinks() {
+    }
+
+    static <T> ResponseEntity<List<T>> page(List<T> items, CursorRequest cursor, Function<T, Long> idOf) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!items.isEmpty() && items.size() == cursor.pageSize()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", idOf.apply(items.get(items.size() - 1)))
+                    .replaceQueryParam("limit", cursor.pageSize())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(items);
+    }
+
+    // Sparse rows (?fields=) always carry their id
+    static ResponseEntity<List<Map<String, Object>>> page(List<Map<String, Object>> rows, CursorRequest cursor) {
+        return page(rows, cursor, row -> (Long) row.get("id"));
+    }
+}
@@ -0,0 +1,36 @@
+package com.thesis.projectmanagement.controller;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Function;
+
+// Entity versions travel as strong ETags ("3"); If-Match carries them back on updates and deletes
+final class ETags {
+    private ETags() {
+    }
+
+    static <T> ResponseEntity<T> ok(T body, Function<T, Long> versionOf) {
+        Long version = versionOf.apply(body);
+        if (version == null) {
+            return ResponseEntity.ok(body);
+        }
+        return ResponseEntity.ok().eTag(version.toString()).body(body);
+    }
+
+    // The header wins over the version in the body; "*" or no header keeps the body's version.
+    // Deletes have no body: without a header (or with "*") they are unconditional
+    static Long expectedVersion(String ifMatch, Long bodyVersion) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return bodyVersion;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new InvalidIfMatchException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+}
@@ -1,50 +1,80 @@
 package com.thesis.projectmanagement.controller;
 
+import com.thesis.projectmanagement.config.QueryMetrics;
+import com.thesis.projectmanagement.config.ReadRouting;
+import com.thesis.projectmanagement.constants.ProgressScope;
+import com.thesis.projectmanagement.dto.CursorRequest;
 import com.thesis.projectmanagement.dto.EpicDTO;
+import com.thesis.projectmanagement.dto.ProgressDTO;
 import com.thesis.projectmanagement.service.EpicService;
+import com.thesis.projectmanagement.service.ProgressCounterService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/epics")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.LINK, HttpHeaders.ETAG, ReadRouting.LAST_WRITE_HEADER,
+        QueryMetrics.COUNT_HEADER, QueryMetrics.ROWS_HEADER, QueryMetrics.SERVER_TIMING_HEADER})
 public class EpicController {
     private final EpicService epicService;
+    private final ProgressCounterService progressCounterService;
+    private final ProjectETags projectETags;
 
     @GetMapping
-    public ResponseEntity<List<EpicDTO>> getAllEpics() {
-        return ResponseEntity.ok(epicService.getAllEpics());
+    public ResponseEntity<List<EpicDTO>> getAllEpics(CursorRequest cursor,
+                                                     @RequestParam(required = false) List<Long> ids) {
+        if (ids != null) {
+            return ResponseEntity.ok(epicService.getEpicsByIds(ids));
+        }
+        return CursorLinks.page(epicService.getAllEpics(cursor), cursor, EpicDTO::getId);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<EpicDTO> getEpic(@PathVariable Long id) {
-        return ResponseEntity.ok(epicService.getEpicById(id));
+        return ETags.ok(epicService.getEpicById(id), EpicDTO::getVersion);
+    }
+
+    // Item and story point counts per status, read from the maintained counters
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<ProgressDTO> getEpicProgress(@PathVariable Long id) {
+        return ResponseEntity.ok(progressCounterService.getProgress(ProgressScope.EPIC, id));
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<EpicDTO>> getEpicsByProjectId(@PathVariable Long projectId) {
-        return ResponseEntity.ok(epicService.getEpicsByProjectId(projectId));
+    public ResponseEntity<List<EpicDTO>> getEpicsByProjectId(@PathVariable Long projectId, CursorRequest cursor,
+                                                             WebRequest request) {
+        if (projectETags.notModified(projectId, request)) {
+            return null;
+        }
+        return CursorLinks.page(projectETags.read(() -> epicService.getEpicsByProjectId(projectId, cursor)), cursor,
+                EpicDTO::getId);
     }
 
     @PostMapping
     public ResponseEntity<EpicDTO> createEpic(@RequestBody EpicDTO epicDTO) {
-        return ResponseEntity.ok(epicService.createEpic(epicDTO));
+        return ETags.ok(epicService.createEpic(epicDTO), EpicDTO::getVersion);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<EpicDTO> updateEpic(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody EpicDTO epicDTO) {
-        return ResponseEntity.ok(epicService.updateEpic(id, epicDTO));
+        epicDTO.setVersion(ETags.expectedVersion(ifMatch, epicDTO.getVersion()));
+        return ETags.ok(epicService.updateEpic(id, epicDTO), EpicDTO::getVersion);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteEpic(@PathVariable Long id) {
-        epicService.deleteEpic(id);
+    public ResponseEntity<Void> deleteEpic(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        epicService.deleteEpic(id, ETags.expectedVersion(ifMatch, null));
         return ResponseEntity.noContent().build();
     }
 } 
\ No newline at end of file
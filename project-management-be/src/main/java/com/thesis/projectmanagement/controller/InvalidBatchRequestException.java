@@ -0,0 +1,9 @@
+package com.thesis.projectmanagement.controller;
+
+// A batch the client has to change: too many requests, or a path the batch cannot dispatch
+public class InvalidBatchRequestException extends IllegalArgumentException {
+
+    public InvalidBatchRequestException(String message) {
+        super(message);
+    }
+}
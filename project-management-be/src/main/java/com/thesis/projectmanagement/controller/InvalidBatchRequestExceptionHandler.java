@@ -0,0 +1,16 @@
+package com.thesis.projectmanagement.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// POST /api/batch bodies the dispatcher refuses
+@RestControllerAdvice
+public class InvalidBatchRequestExceptionHandler {
+
+    @ExceptionHandler(InvalidBatchRequestException.class)
+    public ResponseEntity<String> handleBadRequest(InvalidBatchRequestException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+}
@@ -0,0 +1,9 @@
+package com.thesis.projectmanagement.controller;
+
+// An If-Match header that is neither "*" nor one of our version ETags
+public class InvalidIfMatchException extends IllegalArgumentException {
+
+    public InvalidIfMatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.thesis.projectmanagement.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// A malformed precondition is the client's error; a stale one is a 409 (OptimisticLockExceptionHandler)
+@RestControllerAdvice
+public class InvalidIfMatchExceptionHandler {
+
+    @ExceptionHandler(InvalidIfMatchException.class)
+    public ResponseEntity<String> handleBadRequest(InvalidIfMatchException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+}
@@ -0,0 +1,17 @@
+package com.thesis.projectmanagement.controller;
+
+import com.thesis.projectmanagement.dto.InvalidListRequestException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// ?limit=, ?ids= or ?fields= the endpoint cannot serve
+@RestControllerAdvice
+public class InvalidListRequestExceptionHandler {
+
+    @ExceptionHandler(InvalidListRequestException.class)
+    public ResponseEntity<String> handleBadRequest(InvalidListRequestException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+}
@@ -1,60 +1,86 @@
 package com.thesis.projectmanagement.controller;
 
+import com.thesis.projectmanagement.config.QueryMetrics;
+import com.thesis.projectmanagement.config.ReadRouting;
+import com.thesis.projectmanagement.dto.CursorRequest;
 import com.thesis.projectmanagement.dto.PersonAssignmentDTO;
+import com.thesis.projectmanagement.dto.ResourceRollupDTO;
 import com.thesis.projectmanagement.service.PersonAssignmentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/person-assignments")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.LINK, HttpHeaders.ETAG, ReadRouting.LAST_WRITE_HEADER,
+        QueryMetrics.COUNT_HEADER, QueryMetrics.ROWS_HEADER, QueryMetrics.SERVER_TIMING_HEADER})
 public class PersonAssignmentController {
     private final PersonAssignmentService personAssignmentService;
+    private final ProjectETags projectETags;
 
     @GetMapping
-    public ResponseEntity<List<PersonAssignmentDTO>> getAllPersonAssignments() {
-        return ResponseEntity.ok(personAssignmentService.getAllPersonAssignments());
+    public ResponseEntity<List<PersonAssignmentDTO>> getAllPersonAssignments(CursorRequest cursor,
+                                                                             @RequestParam(required = false) List<Long> ids) {
+        if (ids != null) {
+            return ResponseEntity.ok(personAssignmentService.getPersonAssignmentsByIds(ids));
+        }
+        return CursorLinks.page(personAssignmentService.getAllPersonAssignments(cursor), cursor, PersonAssignmentDTO::getId);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<PersonAssignmentDTO> getPersonAssignment(@PathVariable Long id) {
-        return ResponseEntity.ok(personAssignmentService.getPersonAssignment(id));
+        return ETags.ok(personAssignmentService.getPersonAssignment(id), PersonAssignmentDTO::getVersion);
     }
 
     @GetMapping("/person/{personId}")
-    public ResponseEntity<List<PersonAssignmentDTO>> getPersonAssignmentsByPersonId(@PathVariable Long personId) {
-        return ResponseEntity.ok(personAssignmentService.getPersonAssignmentsByPersonId(personId));
+    public ResponseEntity<List<PersonAssignmentDTO>> getPersonAssignmentsByPersonId(@PathVariable Long personId, CursorRequest cursor) {
+        return CursorLinks.page(personAssignmentService.getPersonAssignmentsByPersonId(personId, cursor), cursor, PersonAssignmentDTO::getId);
     }
 
     @GetMapping("/epic/{epicId}")
-    public ResponseEntity<List<PersonAssignmentDTO>> getPersonAssignmentsByEpicId(@PathVariable Long epicId) {
-        return ResponseEntity.ok(personAssignmentService.getPersonAssignmentsByEpicId(epicId));
+    public ResponseEntity<List<PersonAssignmentDTO>> getPersonAssignmentsByEpicId(@PathVariable Long epicId, CursorRequest cursor) {
+        return CursorLinks.page(personAssignmentService.getPersonAssignmentsByEpicId(epicId, cursor), cursor, PersonAssignmentDTO::getId);
     }
 
     @GetMapping("/work-item/{workItemId}")
-    public ResponseEntity<List<PersonAssignmentDTO>> getPersonAssignmentsByWorkItemId(@PathVariable Long workItemId) {
-        return ResponseEntity.ok(personAssignmentService.getPersonAssignmentsByWorkItemId(workItemId));
+    public ResponseEntity<List<PersonAssignmentDTO>> getPersonAssignmentsByWorkItemId(@PathVariable Long workItemId, CursorRequest cursor) {
+        return CursorLinks.page(personAssignmentService.getPersonAssignmentsByWorkItemId(workItemId, cursor), cursor, PersonAssignmentDTO::getId);
+    }
+
+    @GetMapping("/rollup/project/{projectId}")
+    public ResponseEntity<ResourceRollupDTO> getResourceRollup(@PathVariable Long projectId,
+                                                               @RequestParam(required = false) List<Long> sprintIds,
+                                                               WebRequest request) {
+        if (projectETags.notModified(projectId, request)) {
+            return null;
+        }
+        return ResponseEntity.ok(projectETags.read(() -> personAssignmentService.getResourceRollup(projectId, sprintIds)));
     }
 
     @PostMapping
     public ResponseEntity<PersonAssignmentDTO> createPersonAssignment(@RequestBody PersonAssignmentDTO personAssignmentDTO) {
-        return ResponseEntity.ok(personAssignmentService.createPersonAssignment(personAssignmentDTO));
+        return ETags.ok(personAssignmentService.createPersonAssignment(personAssignmentDTO), PersonAssignmentDTO::getVersion);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<PersonAssignmentDTO> updatePersonAssignment(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody PersonAssignmentDTO personAssignmentDTO) {
-        return ResponseEntity.ok(personAssignmentService.updatePersonAssignment(id, personAssignmentDTO));
+        personAssignmentDTO.setVersion(ETags.expectedVersion(ifMatch, personAssignmentDTO.getVersion()));
+        return ETags.ok(personAssignmentService.updatePersonAssignment(id, personAssignmentDTO), PersonAssignmentDTO::getVersion);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deletePersonAssignment(@PathVariable Long id) {
-        personAssignmentService.deletePersonAssignment(id);
+    public ResponseEntity<Void> deletePersonAssignment(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        personAssignmentService.deletePersonAssignment(id, ETags.expectedVersion(ifMatch, null));
         return ResponseEntity.noContent().build();
     }
 } 
\ No newline at end of file
@@ -1,8 +1,13 @@
 package com.thesis.projectmanagement.controller;
 
+import com.thesis.projectmanagement.config.QueryMetrics;
+import com.thesis.projectmanagement.config.ReadRouting;
+import com.thesis.projectmanagement.dto.CursorRequest;
+import com.thesis.projectmanagement.dto.FieldSet;
 import com.thesis.projectmanagement.dto.PersonDTO;
 import com.thesis.projectmanagement.service.PersonService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -11,23 +16,39 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/persons")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.LINK, HttpHeaders.ETAG, ReadRouting.LAST_WRITE_HEADER,
+        QueryMetrics.COUNT_HEADER, QueryMetrics.ROWS_HEADER, QueryMetrics.SERVER_TIMING_HEADER})
 public class PersonController {
     private final PersonService personService;
 
+    // List endpoints return only the requested fields when ?fields= is given
     @GetMapping
-    public ResponseEntity<List<PersonDTO>> getAllPersons() {
-        return ResponseEntity.ok(personService.getAllPersons());
+    public ResponseEntity<? extends List<?>> getAllPersons(CursorRequest cursor, FieldSet fields,
+                                                          @RequestParam(required = false) List<Long> ids) {
+        if (ids != null && fields.isSparse()) {
+            return ResponseEntity.ok(personService.getPersonFieldsByIds(ids, fields));
+        }
+        if (ids != null) {
+            return ResponseEntity.ok(personService.getPersonsByIds(ids));
+        }
+        if (fields.isSparse()) {
+            return CursorLinks.page(personService.getPersonFields(fields, cursor), cursor);
+        }
+        return CursorLinks.page(personService.getAllPersons(cursor), cursor, PersonDTO::getId);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<PersonDTO> getPerson(@PathVariable Long id) {
-        return ResponseEntity.ok(personService.getPersonById(id));
+        return ETags.ok(personService.getPersonById(id), PersonDTO::getVersion);
     }
 
     @GetMapping("/role/{role}")
-    public ResponseEntity<List<PersonDTO>> getPersonsByRole(@PathVariable String role) {
-        return ResponseEntity.ok(personService.getPersonsByRole(role));
+    public ResponseEntity<? extends List<?>> getPersonsByRole(@PathVariable String role, CursorRequest cursor,
+                                                             FieldSet fields) {
+        if (fields.isSparse()) {
+            return CursorLinks.page(personService.getPersonFieldsByRole(role, fields, cursor), cursor);
+        }
+        return CursorLinks.page(personService.getPersonsByRole(role, cursor), cursor, PersonDTO::getId);
     }
 
     @GetMapping("/email/{email}")
@@ -37,19 +58,23 @@ public class PersonController {
 
     @PostMapping
     public ResponseEntity<PersonDTO> createPerson(@RequestBody PersonDTO personDTO) {
-        return ResponseEntity.ok(personService.createPerson(personDTO));
+        return ETags.ok(personService.createPerson(personDTO), PersonDTO::getVersion);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<PersonDTO> updatePerson(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody PersonDTO personDTO) {
-        return ResponseEntity.ok(personService.updatePerson(id, personDTO));
+        personDTO.setVersion(ETags.expectedVersion(ifMatch, personDTO.getVersion()));
+        return ETags.ok(personService.updatePerson(id, personDTO), PersonDTO::getVersion);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deletePerson(@PathVariable Long id) {
-        personService.deletePerson(id);
+    public ResponseEntity<Void> deletePerson(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        personService.deletePerson(id, ETags.expectedVersion(ifMatch, null));
         return ResponseEntity.noContent().build();
     }
 } 
\ No newline at end of file
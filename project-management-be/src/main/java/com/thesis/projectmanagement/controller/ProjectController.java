@@ -1,51 +1,105 @@
 package com.thesis.projectmanagement.controller;
 
+import com.thesis.projectmanagement.config.QueryMetrics;
+import com.thesis.projectmanagement.config.ReadRouting;
 import com.thesis.projectmanagement.constants.ProjectStatus;
+import com.thesis.projectmanagement.dto.CursorRequest;
+import com.thesis.projectmanagement.dto.EpicOverviewDTO;
 import com.thesis.projectmanagement.dto.ProjectDTO;
+import com.thesis.projectmanagement.dto.ProjectTimelineDTO;
+import com.thesis.projectmanagement.service.EpicService;
+import com.thesis.projectmanagement.service.ProjectDashboardService;
 import com.thesis.projectmanagement.service.ProjectService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/projects")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.LINK, HttpHeaders.ETAG, ReadRouting.LAST_WRITE_HEADER,
+        QueryMetrics.COUNT_HEADER, QueryMetrics.ROWS_HEADER, QueryMetrics.SERVER_TIMING_HEADER})
 public class ProjectController {
     private final ProjectService projectService;
+    private final EpicService epicService;
+    private final ProjectDashboardService projectDashboardService;
+    private final ProjectETags projectETags;
 
     @GetMapping
-    public ResponseEntity<List<ProjectDTO>> getAllProjects() {
-        return ResponseEntity.ok(projectService.getAllProjects());
+    public ResponseEntity<List<ProjectDTO>> getAllProjects(CursorRequest cursor,
+                                                           @RequestParam(required = false) List<Long> ids) {
+        if (ids != null) {
+            return ResponseEntity.ok(projectService.getProjectsByIds(ids));
+        }
+        return CursorLinks.page(projectService.getAllProjects(cursor), cursor, ProjectDTO::getId);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ProjectDTO> getProject(@PathVariable Long id) {
-        return ResponseEntity.ok(projectService.getProjectById(id));
+        return ETags.ok(projectService.getProjectById(id), ProjectDTO::getVersion);
+    }
+
+    // Per-epic progress, people and cost for the epic board, in a single query
+    @GetMapping("/{id}/epic-overview")
+    public ResponseEntity<List<EpicOverviewDTO>> getEpicOverview(@PathVariable Long id, WebRequest request) {
+        if (projectETags.notModified(id, request)) {
+            return null;
+        }
+        return ResponseEntity.ok(projectETags.read(() -> epicService.getEpicOverview(id)));
+    }
+
+    // Epics with their sprint-planned work items, sprint bands and the date envelope for the Gantt view
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<ProjectTimelineDTO> getTimeline(@PathVariable Long id,
+                                                          @RequestParam(required = false) List<Long> sprintIds,
+                                                          WebRequest request) {
+        if (projectETags.notModified(id, request)) {
+            return null;
+        }
+        return ResponseEntity.ok(projectETags.read(() -> projectService.getTimeline(id, sprintIds)));
+    }
+
+    // Project, epic board, team size and cost total for ProjectDetail, kept as serialised JSON
+    // until the project next changes
+    @GetMapping(value = "/{id}/dashboard", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getDashboard(@PathVariable Long id, WebRequest request) {
+        if (projectETags.notModified(id, request)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(projectETags.read(() -> projectDashboardService.getDashboard(id)));
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<ProjectDTO>> getProjectsByStatus(@PathVariable ProjectStatus status) {
-        return ResponseEntity.ok(projectService.getProjectsByStatus(status));
+    public ResponseEntity<List<ProjectDTO>> getProjectsByStatus(@PathVariable ProjectStatus status, CursorRequest cursor) {
+        return CursorLinks.page(projectService.getProjectsByStatus(status, cursor), cursor, ProjectDTO::getId);
     }
 
     @PostMapping
     public ResponseEntity<ProjectDTO> createProject(@RequestBody ProjectDTO projectDTO) {
-        return ResponseEntity.ok(projectService.createProject(projectDTO));
+        return ETags.ok(projectService.createProject(projectDTO), ProjectDTO::getVersion);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ProjectDTO> updateProject(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody ProjectDTO projectDTO) {
-        return ResponseEntity.ok(projectService.updateProject(id, projectDTO));
+        projectDTO.setVersion(ETags.expectedVersion(ifMatch, projectDTO.getVersion()));
+        return ETags.ok(projectService.updateProject(id, projectDTO), ProjectDTO::getVersion);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
-        projectService.deleteProject(id);
+    public ResponseEntity<Void> deleteProject(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        projectService.deleteProject(id, ETags.expectedVersion(ifMatch, null));
         return ResponseEntity.noContent().build();
     }
 } 
\ No newline at end of file
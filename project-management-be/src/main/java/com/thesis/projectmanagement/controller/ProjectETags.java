@@ -0,0 +1,32 @@
+package com.thesis.projectmanagement.controller;
+
+import com.thesis.projectmanagement.config.ReadRouting;
+import com.thesis.projectmanagement.service.ProjectChangeTracker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+// Conditional GETs for the views of one project. Their strong ETag is the project's change
+// sequence ("p12-<epoch>-<seq>"), which is known without touching the database, so a matching
+// If-None-Match is answered with 304 before any repository call. The tag is taken before the
+// view is read: a write committing in between only costs the client one more full response.
+// The sequence moves when a write commits on the primary, so the view is read there too; a
+// lagging replica would otherwise hand out the old body under the new tag.
+@Component
+@RequiredArgsConstructor
+class ProjectETags {
+    private final ProjectChangeTracker projectChangeTracker;
+
+    // Sets the ETag, and on a match the 304 status; the handler then returns null
+    boolean notModified(Long projectId, WebRequest request) {
+        return request.checkNotModified(
+                "p" + projectId + "-" + projectChangeTracker.epoch() + "-" + projectChangeTracker.version(projectId));
+    }
+
+    // Reads the tagged view; the service call must open its transaction inside
+    <T> T read(Supplier<T> view) {
+        return ReadRouting.onPrimary(view);
+    }
+}
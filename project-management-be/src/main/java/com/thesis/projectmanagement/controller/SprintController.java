@@ -1,50 +1,80 @@
 package com.thesis.projectmanagement.controller;
 
+import com.thesis.projectmanagement.config.QueryMetrics;
+import com.thesis.projectmanagement.config.ReadRouting;
+import com.thesis.projectmanagement.constants.ProgressScope;
+import com.thesis.projectmanagement.dto.CursorRequest;
 import com.thesis.projectmanagement.dto.SprintDTO;
+import com.thesis.projectmanagement.dto.ProgressDTO;
 import com.thesis.projectmanagement.service.SprintService;
+import com.thesis.projectmanagement.service.ProgressCounterService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/sprints")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.LINK, HttpHeaders.ETAG, ReadRouting.LAST_WRITE_HEADER,
+        QueryMetrics.COUNT_HEADER, QueryMetrics.ROWS_HEADER, QueryMetrics.SERVER_TIMING_HEADER})
 public class SprintController {
     private final SprintService sprintService;
+    private final ProgressCounterService progressCounterService;
+    private final ProjectETags projectETags;
 
     @GetMapping
-    public ResponseEntity<List<SprintDTO>> getAllSprints() {
-        return ResponseEntity.ok(sprintService.getAllSprints());
+    public ResponseEntity<List<SprintDTO>> getAllSprints(CursorRequest cursor,
+                                                         @RequestParam(required = false) List<Long> ids) {
+        if (ids != null) {
+            return ResponseEntity.ok(sprintService.getSprintsByIds(ids));
+        }
+        return CursorLinks.page(sprintService.getAllSprints(cursor), cursor, SprintDTO::getId);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<SprintDTO> getSprint(@PathVariable Long id) {
-        return ResponseEntity.ok(sprintService.getSprintById(id));
+        return ETags.ok(sprintService.getSprintById(id), SprintDTO::getVersion);
+    }
+
+    // Item and story point counts per status, read from the maintained counters
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<ProgressDTO> getSprintProgress(@PathVariable Long id) {
+        return ResponseEntity.ok(progressCounterService.getProgress(ProgressScope.SPRINT, id));
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<SprintDTO>> getSprintsByProjectId(@PathVariable Long projectId) {
-        return ResponseEntity.ok(sprintService.getSprintsByProjectId(projectId));
+    public ResponseEntity<List<SprintDTO>> getSprintsByProjectId(@PathVariable Long projectId, CursorRequest cursor,
+                                                                 WebRequest request) {
+        if (projectETags.notModified(projectId, request)) {
+            return null;
+        }
+        return CursorLinks.page(projectETags.read(() -> sprintService.getSprintsByProjectId(projectId, cursor)), cursor,
+                SprintDTO::getId);
     }
 
     @PostMapping
     public ResponseEntity<SprintDTO> createSprint(@RequestBody SprintDTO sprintDTO) {
-        return ResponseEntity.ok(sprintService.createSprint(sprintDTO));
+        return ETags.ok(sprintService.createSprint(sprintDTO), SprintDTO::getVersion);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<SprintDTO> updateSprint(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody SprintDTO sprintDTO) {
-        return ResponseEntity.ok(sprintService.updateSprint(id, sprintDTO));
+        sprintDTO.setVersion(ETags.expectedVersion(ifMatch, sprintDTO.getVersion()));
+        return ETags.ok(sprintService.updateSprint(id, sprintDTO), SprintDTO::getVersion);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteSprint(@PathVariable Long id) {
-        sprintService.deleteSprint(id);
+    public ResponseEntity<Void> deleteSprint(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        sprintService.deleteSprint(id, ETags.expectedVersion(ifMatch, null));
         return ResponseEntity.noContent().build();
     }
 
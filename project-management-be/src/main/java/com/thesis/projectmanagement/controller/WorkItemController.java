@@ -1,60 +1,106 @@
 package com.thesis.projectmanagement.controller;
 
+import com.thesis.projectmanagement.config.QueryMetrics;
+import com.thesis.projectmanagement.config.ReadRouting;
+import com.thesis.projectmanagement.dto.CursorRequest;
+import com.thesis.projectmanagement.dto.FieldSet;
 import com.thesis.projectmanagement.dto.WorkItemDTO;
+import com.thesis.projectmanagement.dto.WorkItemDetailDTO;
 import com.thesis.projectmanagement.service.WorkItemService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/work-items")
 @RequiredArgsConstructor
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.LINK, HttpHeaders.ETAG, ReadRouting.LAST_WRITE_HEADER,
+        QueryMetrics.COUNT_HEADER, QueryMetrics.ROWS_HEADER, QueryMetrics.SERVER_TIMING_HEADER})
 public class WorkItemController {
     private final WorkItemService workItemService;
+    private final ProjectETags projectETags;
 
+    // List endpoints return only the requested fields when ?fields= is given
     @GetMapping
-    public ResponseEntity<List<WorkItemDTO>> getAllWorkItems() {
-        return ResponseEntity.ok(workItemService.getAllWorkItems());
+    public ResponseEntity<? extends List<?>> getAllWorkItems(CursorRequest cursor, FieldSet fields,
+                                                            @RequestParam(required = false) List<Long> ids) {
+        if (ids != null && fields.isSparse()) {
+            return ResponseEntity.ok(workItemService.getWorkItemFieldsByIds(ids, fields));
+        }
+        if (ids != null) {
+            return ResponseEntity.ok(workItemService.getWorkItemsByIds(ids));
+        }
+        if (fields.isSparse()) {
+            return CursorLinks.page(workItemService.getWorkItemFields(fields, cursor), cursor);
+        }
+        return CursorLinks.page(workItemService.getAllWorkItems(cursor), cursor, WorkItemDTO::getId);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<WorkItemDTO> getWorkItem(@PathVariable Long id) {
-        return ResponseEntity.ok(workItemService.getWorkItemById(id));
+        return ETags.ok(workItemService.getWorkItemById(id), WorkItemDTO::getVersion);
+    }
+
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<WorkItemDetailDTO> getWorkItemDetail(@PathVariable Long id) {
+        return ResponseEntity.ok(workItemService.getWorkItemDetail(id));
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<WorkItemDTO>> getWorkItemsByProjectId(@PathVariable Long projectId) {
-        return ResponseEntity.ok(workItemService.getWorkItemsByProjectId(projectId));
+    public ResponseEntity<? extends List<?>> getWorkItemsByProjectId(@PathVariable Long projectId, CursorRequest cursor,
+                                                                    FieldSet fields, WebRequest request) {
+        if (projectETags.notModified(projectId, request)) {
+            return null;
+        }
+        if (fields.isSparse()) {
+            return CursorLinks.page(projectETags.read(
+                    () -> workItemService.getWorkItemFieldsByProjectId(projectId, fields, cursor)), cursor);
+        }
+        return CursorLinks.page(projectETags.read(() -> workItemService.getWorkItemsByProjectId(projectId, cursor)), cursor,
+                WorkItemDTO::getId);
     }
 
     @GetMapping("/epic/{epicId}")
-    public ResponseEntity<List<WorkItemDTO>> getWorkItemsByEpicId(@PathVariable Long epicId) {
-        return ResponseEntity.ok(workItemService.getWorkItemsByEpicId(epicId));
+    public ResponseEntity<? extends List<?>> getWorkItemsByEpicId(@PathVariable Long epicId, CursorRequest cursor,
+                                                                 FieldSet fields) {
+        if (fields.isSparse()) {
+            return CursorLinks.page(workItemService.getWorkItemFieldsByEpicId(epicId, fields, cursor), cursor);
+        }
+        return CursorLinks.page(workItemService.getWorkItemsByEpicId(epicId, cursor), cursor, WorkItemDTO::getId);
     }
 
     @GetMapping("/sprint/{sprintId}")
-    public ResponseEntity<List<WorkItemDTO>> getWorkItemsBySprintId(@PathVariable Long sprintId) {
-        return ResponseEntity.ok(workItemService.getWorkItemsBySprintId(sprintId));
+    public ResponseEntity<? extends List<?>> getWorkItemsBySprintId(@PathVariable Long sprintId, CursorRequest cursor,
+                                                                   FieldSet fields) {
+        if (fields.isSparse()) {
+            return CursorLinks.page(workItemService.getWorkItemFieldsBySprintId(sprintId, fields, cursor), cursor);
+        }
+        return CursorLinks.page(workItemService.getWorkItemsBySprintId(sprintId, cursor), cursor, WorkItemDTO::getId);
     }
 
     @PostMapping
     public ResponseEntity<WorkItemDTO> createWorkItem(@RequestBody WorkItemDTO workItemDTO) {
-        return ResponseEntity.ok(workItemService.createWorkItem(workItemDTO));
+        return ETags.ok(workItemService.createWorkItem(workItemDTO), WorkItemDTO::getVersion);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<WorkItemDTO> updateWorkItem(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody WorkItemDTO workItemDTO) {
-        return ResponseEntity.ok(workItemService.updateWorkItem(id, workItemDTO));
+        workItemDTO.setVersion(ETags.expectedVersion(ifMatch, workItemDTO.getVersion()));
+        return ETags.ok(workItemService.updateWorkItem(id, workItemDTO), WorkItemDTO::getVersion);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteWorkItem(@PathVariable Long id) {
-        workItemService.deleteWorkItem(id);
+    public ResponseEntity<Void> deleteWorkItem(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        workItemService.deleteWorkItem(id, ETags.expectedVersion(ifMatch, null));
         return ResponseEntity.noContent().build();
     }
 } 
\ No newline at end of file
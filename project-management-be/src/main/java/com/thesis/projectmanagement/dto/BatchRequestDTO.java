@@ -0,0 +1,17 @@
+package com.thesis.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRequestDTO {
+    private List<String> requests;  // Relative GET urls, e.g. "/api/work-items/3/detail"
+    private boolean consistent;     // Serve every request from one read-only snapshot
+}
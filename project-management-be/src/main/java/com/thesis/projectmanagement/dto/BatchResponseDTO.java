@@ -0,0 +1,22 @@
+package com.thesis.projectmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponseDTO {
+    private String request;
+    private int status;
+    private Map<String, String> headers;
+    // Already serialized JSON, copied into the batch response as is
+    @JsonRawValue
+    private String body;
+}
@@ -0,0 +1,17 @@
+package com.thesis.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatisticsDTO {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+}
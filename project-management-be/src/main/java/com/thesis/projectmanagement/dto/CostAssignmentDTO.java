@@ -14,4 +14,5 @@ public class CostAssignmentDTO {
     private Long costId;
     private Long epicId;
     private Long workItemId;
+    private Long version;
 } 
\ No newline at end of file
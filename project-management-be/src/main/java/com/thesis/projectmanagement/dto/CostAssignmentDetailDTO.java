@@ -0,0 +1,27 @@
+package com.thesis.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Cost assignment with the cost embedded, as shown in the work item detail view
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostAssignmentDetailDTO {
+    private Long id;
+    private Long costId;
+    private Long workItemId;
+    private Long version;
+    private CostDTO cost;
+
+    // Used by the constructor expression in CostAssignmentRepository
+    public CostAssignmentDetailDTO(Long id, Long workItemId, Long version,
+                                   Long costId, String costName, String costDescription, Double amount,
+                                   String category, Long costVersion) {
+        this(id, costId, workItemId, version,
+                new CostDTO(costId, costName, costDescription, amount, category, costVersion));
+    }
+}
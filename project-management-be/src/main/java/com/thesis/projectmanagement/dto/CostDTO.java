@@ -15,4 +15,5 @@ public class CostDTO {
     private String description;
     private Double amount;
     private String category;
+    private Long version;
 } 
\ No newline at end of file
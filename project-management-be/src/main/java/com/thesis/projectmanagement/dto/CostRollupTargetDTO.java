@@ -0,0 +1,20 @@
+package com.thesis.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// A cost's amount and category together with the rollup rows its assignment counts towards;
+// the ids are null when the cost is unassigned (or, for the epic, when the work item has none)
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostRollupTargetDTO {
+    private String category;
+    private Double amount;
+    private Long workItemId;
+    private Long epicId;
+    private Long projectId;
+}
@@ -0,0 +1,28 @@
+package com.thesis.projectmanagement.dto;
+
+import com.thesis.projectmanagement.constants.CostRollupScope;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostTotalDTO {
+    private CostRollupScope scope;
+    private String key;     // Work item / epic / project id, or the category name
+    private BigDecimal total;
+
+    // Used by the rebuild aggregates in CostRollupRepository, which leave the scope to the caller
+    public CostTotalDTO(Long id, BigDecimal total) {
+        this(null, String.valueOf(id), total);
+    }
+
+    public CostTotalDTO(String key, BigDecimal total) {
+        this(null, key, total);
+    }
+}
@@ -0,0 +1,29 @@
+package com.thesis.projectmanagement.dto;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+// Keyset paging for list endpoints: up to `limit` rows with an id greater than `after`.
+// Without a limit a page holds DEFAULT_LIMIT rows; the Link header leads to the next one.
+public record CursorRequest(Long after, Integer limit) {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    public long afterId() {
+        return after != null ? after : 0L;
+    }
+
+    public int pageSize() {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidListRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+
+    public Pageable pageable() {
+        return PageRequest.of(0, pageSize());
+    }
+}
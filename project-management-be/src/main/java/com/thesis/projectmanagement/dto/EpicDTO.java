@@ -18,4 +18,5 @@ public class EpicDTO {
     private LocalDate startDate;
     private LocalDate endDate;
     private Long projectId;
+    private Long version;
 } 
\ No newline at end of file
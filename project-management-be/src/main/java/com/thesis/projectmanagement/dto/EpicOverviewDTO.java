@@ -0,0 +1,39 @@
+package com.thesis.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EpicOverviewDTO {
+    private Long id;
+    private String title;
+    private String description;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long projectId;
+    private Long version;
+    private long workItemCount;
+    private long doneCount;
+    private int progress;           // Percentage of work items in DONE
+    private long assignedPeople;    // Distinct persons on the epic or on its work items
+    private BigDecimal totalCost;   // Epic-level plus work-item-level costs, from the cost rollup
+
+    // Used by the constructor expression in EpicRepository
+    public EpicOverviewDTO(Long id, String title, String description, LocalDate startDate, LocalDate endDate,
+                           Long projectId, Long version, Long workItemCount, Long doneCount,
+                           Long assignedPeople, BigDecimal totalCost) {
+        this(id, title, description, startDate, endDate, projectId, version,
+                workItemCount, doneCount,
+                workItemCount == 0 ? 0 : (int) Math.round(doneCount * 100.0 / workItemCount),
+                assignedPeople,
+                totalCost != null ? totalCost : BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,12 @@
+package com.thesis.projectmanagement.dto;
+
+import java.util.List;
+
+// Sparse fieldsets for list endpoints: ?fields=id,status,storyPoints selects and returns only
+// those fields (the id is always included). Without the parameter the full DTO is returned.
+public record FieldSet(List<String> fields) {
+
+    public boolean isSparse() {
+        return fields != null && !fields.isEmpty();
+    }
+}
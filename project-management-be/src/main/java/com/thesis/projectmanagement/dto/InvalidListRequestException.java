@@ -0,0 +1,9 @@
+package com.thesis.projectmanagement.dto;
+
+// A list request the client has to change: a limit out of range, too many ids or an unknown field
+public class InvalidListRequestException extends IllegalArgumentException {
+
+    public InvalidListRequestException(String message) {
+        super(message);
+    }
+}
@@ -16,4 +16,5 @@ public class PersonAssignmentDTO {
     private Long workItemId;
     private Double hours;
     private String description;
+    private Long version;
 } 
\ No newline at end of file
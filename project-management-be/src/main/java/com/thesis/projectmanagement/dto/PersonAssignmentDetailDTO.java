@@ -0,0 +1,29 @@
+package com.thesis.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Person assignment with the assigned person embedded, as shown in the work item detail view
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonAssignmentDetailDTO {
+    private Long id;
+    private Long personId;
+    private Long workItemId;
+    private Double hours;
+    private String description;
+    private Long version;
+    private PersonDTO person;
+
+    // Used by the constructor expression in PersonAssignmentRepository
+    public PersonAssignmentDetailDTO(Long id, Long workItemId, Double hours, String description, Long version,
+                                     Long personId, String personName, String personEmail, String personRole,
+                                     Long personVersion) {
+        this(id, personId, workItemId, hours, description, version,
+                new PersonDTO(personId, personName, personEmail, personRole, personVersion));
+    }
+}
@@ -14,4 +14,5 @@ public class PersonDTO {
     private String name;
     private String email;
     private String role;
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.thesis.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One cell of the person-by-epic matrix, split by where the hours were assigned
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonEpicHoursDTO {
+    private Long personId;
+    private String personName;
+    private Long epicId;
+    private Double epicHours;       // Assigned directly on the epic
+    private Double workItemHours;   // Assigned on the epic's work items
+}
@@ -0,0 +1,18 @@
+package com.thesis.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One cell of the person-by-sprint matrix: work-item hours a person has in a sprint
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonSprintHoursDTO {
+    private Long personId;
+    private String personName;
+    private Long sprintId;
+    private Double hours;
+}
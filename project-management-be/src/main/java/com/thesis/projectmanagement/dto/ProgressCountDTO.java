@@ -0,0 +1,19 @@
+package com.thesis.projectmanagement.dto;
+
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One status group of an epic or sprint, as counted from the work items table
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressCountDTO {
+    private Long ownerId;
+    private WorkItemStatus status;
+    private Long items;
+    private Long storyPoints;
+}
@@ -0,0 +1,25 @@
+package com.thesis.projectmanagement.dto;
+
+import com.thesis.projectmanagement.constants.ProgressScope;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressDTO {
+    private ProgressScope scope;
+    private Long ownerId;
+    private long workItemCount;
+    private long doneCount;
+    private long storyPoints;
+    private long doneStoryPoints;
+    private int progress;                       // Percentage of work items in DONE
+    private Map<String, Long> itemsByStatus;    // Every WorkItemStatus, zero when empty
+    private Map<String, Long> storyPointsByStatus;
+}
@@ -1,5 +1,6 @@
 package com.thesis.projectmanagement.dto;
 
+import com.thesis.projectmanagement.constants.ProjectStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -14,4 +15,10 @@ public class ProjectDTO {
     private String title;
     private String description;
     private String status;  // Instead of ProjectStatus enum
+    private Long version;
+
+    // Used by the constructor expressions in ProjectRepository
+    public ProjectDTO(Long id, String title, String description, ProjectStatus status, Long version) {
+        this(id, title, description, status != null ? status.name() : null, version);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.thesis.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectDashboardDTO {
+    private ProjectDTO project;
+    private int epicCount;
+    private long teamSize;          // Distinct persons on the project's epics or work items
+    private BigDecimal estimatedCost; // Project total from the cost rollup
+    private List<EpicOverviewDTO> epics;
+}
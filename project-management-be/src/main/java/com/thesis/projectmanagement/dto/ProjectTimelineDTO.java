@@ -0,0 +1,21 @@
+package com.thesis.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectTimelineDTO {
+    private Long projectId;
+    private LocalDate startDate;    // Earliest date across the epics and sprint bands below
+    private LocalDate endDate;      // Latest date across the epics and sprint bands below
+    private List<SprintDTO> sprints;
+    private List<TimelineEpicDTO> epics;
+}
@@ -0,0 +1,19 @@
+package com.thesis.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceRollupDTO {
+    private Long projectId;
+    private List<Long> sprintIds;   // Sprint filter that was applied, null when all sprints are included
+    private List<PersonSprintHoursDTO> bySprint;
+    private List<PersonEpicHoursDTO> byEpic;
+}
@@ -1,5 +1,6 @@
 package com.thesis.projectmanagement.dto;
 
+import com.thesis.projectmanagement.constants.SprintStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,4 +20,11 @@ public class SprintDTO {
     private LocalDate startDate;
     private LocalDate endDate;
     private Long projectId;
+    private Long version;
+
+    // Used by the constructor expressions in SprintRepository
+    public SprintDTO(Long id, String name, String goal, SprintStatus status,
+                     LocalDate startDate, LocalDate endDate, Long projectId, Long version) {
+        this(id, name, goal, status != null ? status.name() : null, startDate, endDate, projectId, version);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.thesis.projectmanagement.dto;
+
+import com.thesis.projectmanagement.constants.WorkItemLocation;
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// One work item with its epic and sprint dates, as read by the timeline query in WorkItemRepository
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineRowDTO {
+    private Long epicId;
+    private String epicTitle;
+    private LocalDate epicStartDate;
+    private LocalDate epicEndDate;
+    private Long workItemId;
+    private String title;
+    private WorkItemStatus status;
+    private WorkItemLocation location;
+    private Long sprintId;
+    private String sprintName;
+    private LocalDate sprintStartDate;
+    private LocalDate sprintEndDate;
+}
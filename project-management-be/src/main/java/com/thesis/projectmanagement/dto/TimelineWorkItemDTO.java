@@ -0,0 +1,25 @@
+package com.thesis.projectmanagement.dto;
+
+import com.thesis.projectmanagement.constants.WorkItemLocation;
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineWorkItemDTO {
+    private Long id;
+    private String title;
+    private WorkItemStatus status;
+    private WorkItemLocation location;
+    private Long sprintId;
+    private String sprintName;
+    private LocalDate startDate;    // Sprint dates, falling back to the epic's
+    private LocalDate endDate;
+}
@@ -1,5 +1,9 @@
 package com.thesis.projectmanagement.dto;
 
+import com.thesis.projectmanagement.constants.WorkItemLocation;
+import com.thesis.projectmanagement.constants.WorkItemPriority;
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import com.thesis.projectmanagement.constants.WorkItemType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,4 +25,18 @@ public class WorkItemDTO {
     private Long sprintId;
     private Long projectId;
     private Long epicId;
+    private Long version;
+
+    // Used by the constructor expressions in WorkItemRepository
+    public WorkItemDTO(Long id, String title, String description, WorkItemStatus status,
+                       WorkItemPriority priority, WorkItemType type, WorkItemLocation location,
+                       Integer storyPoints, Long sprintId, Long projectId, Long epicId,
+                       Long version) {
+        this(id, title, description,
+                status != null ? status.name() : null,
+                priority != null ? priority.name() : null,
+                type != null ? type.name() : null,
+                location != null ? location.name() : null,
+                storyPoints, sprintId, projectId, epicId, version);
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.thesis.projectmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkItemDetailDTO {
+    private WorkItemDTO workItem;
+    private List<PersonAssignmentDetailDTO> personAssignments;
+    private List<CostAssignmentDetailDTO> costAssignments;
+}
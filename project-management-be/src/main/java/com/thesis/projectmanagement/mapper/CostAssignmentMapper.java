@@ -6,14 +6,18 @@ import com.thesis.projectmanagement.repository.CostRepository;
 import com.thesis.projectmanagement.repository.EpicRepository;
 import com.thesis.projectmanagement.repository.WorkItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import static com.thesis.projectmanagement.mapper.MissingReferences.reference;
+
 @Component
 @RequiredArgsConstructor
 public class CostAssignmentMapper {
     private final CostRepository costRepository;
     private final EpicRepository epicRepository;
     private final WorkItemRepository workItemRepository;
+    private final MissingReferences missingReferences;
     
     public CostAssignmentDTO toDTO(CostAssignment entity) {
         if (entity == null) {
@@ -25,6 +29,7 @@ public class CostAssignmentMapper {
                 .costId(entity.getCost() != null ? entity.getCost().getId() : null)
                 .epicId(entity.getEpic() != null ? entity.getEpic().getId() : null)
                 .workItemId(entity.getWorkItem() != null ? entity.getWorkItem().getId() : null)
+                .version(entity.getVersion())
                 .build();
     }
     
@@ -37,18 +42,15 @@ public class CostAssignmentMapper {
         assignment.setId(dto.getId());
 
         if (dto.getCostId() != null) {
-            assignment.setCost(costRepository.findById(dto.getCostId())
-                    .orElseThrow(() -> new IllegalArgumentException("Cost not found with id: " + dto.getCostId())));
+            assignment.setCost(costRepository.getReferenceById(dto.getCostId()));
         }
         
         if (dto.getEpicId() != null) {
-            assignment.setEpic(epicRepository.findById(dto.getEpicId())
-                    .orElseThrow(() -> new IllegalArgumentException("Epic not found with id: " + dto.getEpicId())));
+            assignment.setEpic(epicRepository.getReferenceById(dto.getEpicId()));
         }
         
         if (dto.getWorkItemId() != null) {
-            assignment.setWorkItem(workItemRepository.findById(dto.getWorkItemId())
-                    .orElseThrow(() -> new IllegalArgumentException("WorkItem not found with id: " + dto.getWorkItemId())));
+            assignment.setWorkItem(workItemRepository.getReferenceById(dto.getWorkItemId()));
         }
         
         return assignment;
@@ -60,18 +62,22 @@ public class CostAssignmentMapper {
         }
         
         if (dto.getCostId() != null) {
-            entity.setCost(costRepository.findById(dto.getCostId())
-                    .orElseThrow(() -> new IllegalArgumentException("Cost not found with id: " + dto.getCostId())));
+            entity.setCost(costRepository.getReferenceById(dto.getCostId()));
         }
         
         if (dto.getEpicId() != null) {
-            entity.setEpic(epicRepository.findById(dto.getEpicId())
-                    .orElseThrow(() -> new IllegalArgumentException("Epic not found with id: " + dto.getEpicId())));
+            entity.setEpic(epicRepository.getReferenceById(dto.getEpicId()));
             entity.setWorkItem(null);
         } else if (dto.getWorkItemId() != null) {
-            entity.setWorkItem(workItemRepository.findById(dto.getWorkItemId())
-                    .orElseThrow(() -> new IllegalArgumentException("WorkItem not found with id: " + dto.getWorkItemId())));
+            entity.setWorkItem(workItemRepository.getReferenceById(dto.getWorkItemId()));
             entity.setEpic(null);
         }
     }
-} 
\ No newline at end of file
+
+    public RuntimeException missingReference(CostAssignmentDTO dto, DataIntegrityViolationException cause) {
+        return missingReferences.find(cause,
+                reference("Cost", dto.getCostId(), costRepository),
+                reference("Epic", dto.getEpicId(), epicRepository),
+                reference("WorkItem", dto.getWorkItemId(), workItemRepository));
+    }
+}
@@ -18,6 +18,7 @@ public class CostMapper {
                 .description(entity.getDescription())
                 .amount(entity.getAmount())
                 .category(entity.getCategory())
+                .version(entity.getVersion())
                 .build();
     }
     
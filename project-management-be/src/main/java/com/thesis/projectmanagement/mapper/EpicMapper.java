@@ -4,12 +4,16 @@ import com.thesis.projectmanagement.dto.EpicDTO;
 import com.thesis.projectmanagement.model.Epic;
 import com.thesis.projectmanagement.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import static com.thesis.projectmanagement.mapper.MissingReferences.reference;
+
 @Component
 @RequiredArgsConstructor
 public class EpicMapper {
     private final ProjectRepository projectRepository;
+    private final MissingReferences missingReferences;
     
     public EpicDTO toDTO(Epic entity) {
         if (entity == null) {
@@ -23,6 +27,7 @@ public class EpicMapper {
                 .startDate(entity.getStartDate())
                 .endDate(entity.getEndDate())
                 .projectId(entity.getProject() != null ? entity.getProject().getId() : null)
+                .version(entity.getVersion())
                 .build();
     }
     
@@ -40,8 +45,7 @@ public class EpicMapper {
                 .build();
 
         if (dto.getProjectId() != null) {
-            epic.setProject(projectRepository.findById(dto.getProjectId())
-                    .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + dto.getProjectId())));
+            epic.setProject(projectRepository.getReferenceById(dto.getProjectId()));
         }
         
         return epic;
@@ -66,8 +70,12 @@ public class EpicMapper {
         }
         
         if (dto.getProjectId() != null) {
-            entity.setProject(projectRepository.findById(dto.getProjectId())
-                    .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + dto.getProjectId())));
+            entity.setProject(projectRepository.getReferenceById(dto.getProjectId()));
         }
     }
-} 
\ No newline at end of file
+
+    public RuntimeException missingReference(EpicDTO dto, DataIntegrityViolationException cause) {
+        return missingReferences.find(cause,
+                reference("Project", dto.getProjectId(), projectRepository));
+    }
+}
@@ -0,0 +1,42 @@
+package com.thesis.projectmanagement.mapper;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// References are attached as proxies, so a bad id only shows up as a foreign key violation on
+// flush. The mappers ask here which one is missing to report it like before. The session that
+// threw must not be used again, so the lookups run in a new read-only transaction.
+@Component
+public class MissingReferences {
+    private final TransactionTemplate lookupTemplate;
+
+    public record Reference(String name, Long id, CrudRepository<?, Long> repository) {
+    }
+
+    public MissingReferences(PlatformTransactionManager transactionManager) {
+        this.lookupTemplate = new TransactionTemplate(transactionManager);
+        this.lookupTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lookupTemplate.setReadOnly(true);
+    }
+
+    public static Reference reference(String name, Long id, CrudRepository<?, Long> repository) {
+        return new Reference(name, id, repository);
+    }
+
+    // The first reference that does not exist, or the original violation if they all do
+    public RuntimeException find(DataIntegrityViolationException cause, Reference... references) {
+        RuntimeException missing = lookupTemplate.execute(status -> {
+            for (Reference reference : references) {
+                if (reference.id() != null && !reference.repository().existsById(reference.id())) {
+                    return new IllegalArgumentException(reference.name() + " not found with id: " + reference.id());
+                }
+            }
+            return null;
+        });
+        return missing != null ? missing : cause;
+    }
+}
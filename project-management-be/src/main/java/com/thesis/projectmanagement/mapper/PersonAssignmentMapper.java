@@ -6,14 +6,18 @@ import com.thesis.projectmanagement.repository.EpicRepository;
 import com.thesis.projectmanagement.repository.PersonRepository;
 import com.thesis.projectmanagement.repository.WorkItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import static com.thesis.projectmanagement.mapper.MissingReferences.reference;
+
 @Component
 @RequiredArgsConstructor
 public class PersonAssignmentMapper {
     private final PersonRepository personRepository;
     private final EpicRepository epicRepository;
     private final WorkItemRepository workItemRepository;
+    private final MissingReferences missingReferences;
     
     public PersonAssignmentDTO toDTO(PersonAssignment entity) {
         if (entity == null) {
@@ -27,6 +31,7 @@ public class PersonAssignmentMapper {
                 .workItemId(entity.getWorkItem() != null ? entity.getWorkItem().getId() : null)
                 .hours(entity.getHours())
                 .description(entity.getDescription())
+                .version(entity.getVersion())
                 .build();
     }
     
@@ -39,18 +44,15 @@ public class PersonAssignmentMapper {
         assignment.setId(dto.getId());
         
         if (dto.getPersonId() != null) {
-            assignment.setPerson(personRepository.findById(dto.getPersonId())
-                    .orElseThrow(() -> new IllegalArgumentException("Person not found with id: " + dto.getPersonId())));
+            assignment.setPerson(personRepository.getReferenceById(dto.getPersonId()));
         }
         
         if (dto.getEpicId() != null) {
-            assignment.setEpic(epicRepository.findById(dto.getEpicId())
-                    .orElseThrow(() -> new IllegalArgumentException("Epic not found with id: " + dto.getEpicId())));
+            assignment.setEpic(epicRepository.getReferenceById(dto.getEpicId()));
         }
         
         if (dto.getWorkItemId() != null) {
-            assignment.setWorkItem(workItemRepository.findById(dto.getWorkItemId())
-                    .orElseThrow(() -> new IllegalArgumentException("WorkItem not found with id: " + dto.getWorkItemId())));
+            assignment.setWorkItem(workItemRepository.getReferenceById(dto.getWorkItemId()));
         }
         
         assignment.setHours(dto.getHours());
@@ -65,17 +67,14 @@ public class PersonAssignmentMapper {
         }
         
         if (dto.getPersonId() != null) {
-            entity.setPerson(personRepository.findById(dto.getPersonId())
-                    .orElseThrow(() -> new IllegalArgumentException("Person not found with id: " + dto.getPersonId())));
+            entity.setPerson(personRepository.getReferenceById(dto.getPersonId()));
         }
         
         if (dto.getEpicId() != null) {
-            entity.setEpic(epicRepository.findById(dto.getEpicId())
-                    .orElseThrow(() -> new IllegalArgumentException("Epic not found with id: " + dto.getEpicId())));
+            entity.setEpic(epicRepository.getReferenceById(dto.getEpicId()));
             entity.setWorkItem(null);
         } else if (dto.getWorkItemId() != null) {
-            entity.setWorkItem(workItemRepository.findById(dto.getWorkItemId())
-                    .orElseThrow(() -> new IllegalArgumentException("WorkItem not found with id: " + dto.getWorkItemId())));
+            entity.setWorkItem(workItemRepository.getReferenceById(dto.getWorkItemId()));
             entity.setEpic(null);
         }
 
@@ -87,4 +86,11 @@ public class PersonAssignmentMapper {
             entity.setDescription(dto.getDescription());
         }
     }
-} 
\ No newline at end of file
+
+    public RuntimeException missingReference(PersonAssignmentDTO dto, DataIntegrityViolationException cause) {
+        return missingReferences.find(cause,
+                reference("Person", dto.getPersonId(), personRepository),
+                reference("Epic", dto.getEpicId(), epicRepository),
+                reference("WorkItem", dto.getWorkItemId(), workItemRepository));
+    }
+}
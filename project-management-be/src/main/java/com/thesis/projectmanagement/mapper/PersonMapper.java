@@ -17,6 +17,7 @@ public class PersonMapper {
                 .name(entity.getName())
                 .email(entity.getEmail())
                 .role(entity.getRole())
+                .version(entity.getVersion())
                 .build();
     }
     
@@ -18,6 +18,7 @@ public class ProjectMapper {
                 .title(entity.getTitle())
                 .description(entity.getDescription())
                 .status(entity.getStatus() != null ? entity.getStatus().name() : null)
+                .version(entity.getVersion())
                 .build();
     }
     
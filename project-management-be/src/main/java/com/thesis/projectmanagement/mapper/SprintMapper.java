@@ -4,12 +4,16 @@ import com.thesis.projectmanagement.dto.SprintDTO;
 import com.thesis.projectmanagement.model.Sprint;
 import com.thesis.projectmanagement.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import static com.thesis.projectmanagement.mapper.MissingReferences.reference;
+
 @Component
 @RequiredArgsConstructor
 public class SprintMapper {
     private final ProjectRepository projectRepository;
+    private final MissingReferences missingReferences;
     
     public SprintDTO toDTO(Sprint entity) {
         if (entity == null) {
@@ -24,6 +28,7 @@ public class SprintMapper {
                 .startDate(entity.getStartDate())
                 .endDate(entity.getEndDate())
                 .projectId(entity.getProject() != null ? entity.getProject().getId() : null)
+                .version(entity.getVersion())
                 .build();
     }
     
@@ -42,8 +47,7 @@ public class SprintMapper {
                 .build();
 
         if (dto.getProjectId() != null) {
-            sprint.setProject(projectRepository.findById(dto.getProjectId())
-                    .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + dto.getProjectId())));
+            sprint.setProject(projectRepository.getReferenceById(dto.getProjectId()));
         }
         
         return sprint;
@@ -69,8 +73,12 @@ public class SprintMapper {
         }
         
         if (dto.getProjectId() != null) {
-            entity.setProject(projectRepository.findById(dto.getProjectId())
-                    .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + dto.getProjectId())));
+            entity.setProject(projectRepository.getReferenceById(dto.getProjectId()));
         }
     }
-} 
\ No newline at end of file
+
+    public RuntimeException missingReference(SprintDTO dto, DataIntegrityViolationException cause) {
+        return missingReferences.find(cause,
+                reference("Project", dto.getProjectId(), projectRepository));
+    }
+}
@@ -10,14 +10,18 @@ import com.thesis.projectmanagement.repository.EpicRepository;
 import com.thesis.projectmanagement.repository.ProjectRepository;
 import com.thesis.projectmanagement.repository.SprintRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import static com.thesis.projectmanagement.mapper.MissingReferences.reference;
+
 @Component
 @RequiredArgsConstructor
 public class WorkItemMapper {
     private final ProjectRepository projectRepository;
     private final SprintRepository sprintRepository;
     private final EpicRepository epicRepository;
+    private final MissingReferences missingReferences;
     
     public WorkItemDTO toDTO(WorkItem entity) {
         if (entity == null) {
@@ -36,6 +40,7 @@ public class WorkItemMapper {
                 .sprintId(entity.getSprint() != null ? entity.getSprint().getId() : null)
                 .projectId(entity.getProject() != null ? entity.getProject().getId() : null)
                 .epicId(entity.getEpic() != null ? entity.getEpic().getId() : null)
+                .version(entity.getVersion())
                 .build();
     }
     
@@ -56,18 +61,15 @@ public class WorkItemMapper {
                 .build();
 
         if (dto.getProjectId() != null) {
-            workItem.setProject(projectRepository.findById(dto.getProjectId())
-                    .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + dto.getProjectId())));
+            workItem.setProject(projectRepository.getReferenceById(dto.getProjectId()));
         }
         
         if (dto.getSprintId() != null) {
-            workItem.setSprint(sprintRepository.findById(dto.getSprintId())
-                    .orElseThrow(() -> new IllegalArgumentException("Sprint not found with id: " + dto.getSprintId())));
+            workItem.setSprint(sprintRepository.getReferenceById(dto.getSprintId()));
         }
         
         if (dto.getEpicId() != null) {
-            workItem.setEpic(epicRepository.findById(dto.getEpicId())
-                    .orElseThrow(() -> new IllegalArgumentException("Epic not found with id: " + dto.getEpicId())));
+            workItem.setEpic(epicRepository.getReferenceById(dto.getEpicId()));
         }
         
         return workItem;
@@ -101,22 +103,26 @@ public class WorkItemMapper {
         }
         
         if (dto.getProjectId() != null) {
-            entity.setProject(projectRepository.findById(dto.getProjectId())
-                    .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + dto.getProjectId())));
+            entity.setProject(projectRepository.getReferenceById(dto.getProjectId()));
         }
         
         if (dto.getSprintId() != null) {
-            entity.setSprint(sprintRepository.findById(dto.getSprintId())
-                    .orElseThrow(() -> new IllegalArgumentException("Sprint not found with id: " + dto.getSprintId())));
+            entity.setSprint(sprintRepository.getReferenceById(dto.getSprintId()));
         } else {
             entity.setSprint(null);
         }
         
         if (dto.getEpicId() != null) {
-            entity.setEpic(epicRepository.findById(dto.getEpicId())
-                    .orElseThrow(() -> new IllegalArgumentException("Epic not found with id: " + dto.getEpicId())));
+            entity.setEpic(epicRepository.getReferenceById(dto.getEpicId()));
         } else {
             entity.setEpic(null);
         }
     }
-} 
\ No newline at end of file
+
+    public RuntimeException missingReference(WorkItemDTO dto, DataIntegrityViolationException cause) {
+        return missingReferences.find(cause,
+                reference("Project", dto.getProjectId(), projectRepository),
+                reference("Sprint", dto.getSprintId(), sprintRepository),
+                reference("Epic", dto.getEpicId(), epicRepository));
+    }
+}
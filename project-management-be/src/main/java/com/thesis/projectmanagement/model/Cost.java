@@ -11,12 +11,18 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "costs")
+@Table(name = "costs", indexes = {
+    @Index(name = "idx_costs_category", columnList = "category")
+})
 public class Cost {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "costs_seq")
+    @SequenceGenerator(name = "costs_seq", sequenceName = "costs_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     private String name;
     private String description;
     private Double amount;
@@ -14,12 +14,19 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "cost_assignments")
+@Table(name = "cost_assignments", indexes = {
+    @Index(name = "idx_cost_assignments_epic", columnList = "epic_id"),
+    @Index(name = "idx_cost_assignments_work_item", columnList = "work_item_id")
+})
 public class CostAssignment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cost_assignments_seq")
+    @SequenceGenerator(name = "cost_assignments_seq", sequenceName = "cost_assignments_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @OneToOne
     @JoinColumn(name = "cost_id", nullable = false)
     private Cost cost;
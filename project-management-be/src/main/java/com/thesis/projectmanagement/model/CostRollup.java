@@ -0,0 +1,41 @@
+package com.thesis.projectmanagement.model;
+
+import com.thesis.projectmanagement.constants.CostRollupScope;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Running cost total for one work item, epic, project or category, kept in step with
+// costs and cost assignments by CostRollupService
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "cost_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_cost_rollups_scope_key", columnNames = {"scope", "scope_key"})
+})
+public class CostRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cost_rollups_seq")
+    @SequenceGenerator(name = "cost_rollups_seq", sequenceName = "cost_rollups_seq", allocationSize = 50)
+    private Long id;
+
+    @Version
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CostRollupScope scope;
+
+    // Id of the work item / epic / project, or the category name
+    @Column(name = "scope_key", nullable = false)
+    private String scopeKey;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal total;
+}
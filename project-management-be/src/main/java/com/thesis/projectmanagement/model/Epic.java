@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -17,27 +20,38 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "epics")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "epics")
+@Table(name = "epics", indexes = {
+    @Index(name = "idx_epics_project", columnList = "project_id")
+})
 public class Epic {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "epics_seq")
+    @SequenceGenerator(name = "epics_seq", sequenceName = "epics_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     private String title;
     private String description;
     private LocalDate startDate;
     private LocalDate endDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
     private Project project;
 
     @OneToMany(mappedBy = "epic")
+    @BatchSize(size = 50)
     private List<WorkItem> workItems = new ArrayList<>();
 
     @OneToMany(mappedBy = "epic")
+    @BatchSize(size = 50)
     private Set<CostAssignment> costAssignments = new HashSet<>();
 
     @OneToMany(mappedBy = "epic")
+    @BatchSize(size = 50)
     private List<PersonAssignment> personAssignments = new ArrayList<>();
 }
\ No newline at end of file
@@ -5,6 +5,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,16 +19,27 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "persons")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "persons")
+@NaturalIdCache(region = "persons-by-email")
+@Table(name = "persons", indexes = {
+    @Index(name = "idx_persons_role", columnList = "role")
+})
 public class Person {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "persons_seq")
+    @SequenceGenerator(name = "persons_seq", sequenceName = "persons_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     private String name;
+    @NaturalId(mutable = true)
     private String email;
     private String role;
 
     @OneToMany(mappedBy = "person")
+    @BatchSize(size = 50)
     private List<PersonAssignment> assignments = new ArrayList<>();
 } 
\ No newline at end of file
@@ -11,12 +11,20 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "person_assignments")
+@Table(name = "person_assignments", indexes = {
+    @Index(name = "idx_person_assignments_person", columnList = "person_id"),
+    @Index(name = "idx_person_assignments_epic", columnList = "epic_id"),
+    @Index(name = "idx_person_assignments_work_item", columnList = "work_item_id")
+})
 public class PersonAssignment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "person_assignments_seq")
+    @SequenceGenerator(name = "person_assignments_seq", sequenceName = "person_assignments_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "person_id", nullable = false)
     private Person person;
@@ -0,0 +1,47 @@
+package com.thesis.projectmanagement.model;
+
+import com.thesis.projectmanagement.constants.ProgressScope;
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Work items and story points per status of one epic or sprint, kept in step with the
+// work items by ProgressCounterService
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "progress_counters", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_progress_counters_owner_status", columnNames = {"scope", "owner_id", "status"})
+})
+public class ProgressCounter {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "progress_counters_seq")
+    @SequenceGenerator(name = "progress_counters_seq", sequenceName = "progress_counters_seq", allocationSize = 50)
+    private Long id;
+
+    @Version
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProgressScope scope;
+
+    // Id of the epic or sprint
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private WorkItemStatus status;
+
+    @Column(nullable = false)
+    private Long items;
+
+    @Column(nullable = false)
+    private Long storyPoints;
+}
@@ -8,6 +8,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -18,12 +21,20 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "sprints")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "sprints")
+@Table(name = "sprints", indexes = {
+    @Index(name = "idx_sprints_project_status", columnList = "project_id, status")
+})
 public class Sprint {
     @Id 
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sprints_seq")
+    @SequenceGenerator(name = "sprints_seq", sequenceName = "sprints_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     private String name;
     private String goal;
     
@@ -33,11 +44,12 @@ public class Sprint {
     private LocalDate startDate;
     private LocalDate endDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
     private Project project;
 
     @OneToMany(mappedBy = "sprint")
+    @BatchSize(size = 50)
     private List<WorkItem> workItems = new ArrayList<>();
 
     // Start the sprint
@@ -48,12 +60,29 @@ public class Sprint {
         this.status = SprintStatus.ACTIVE;
     }
 
-    // Complete the sprint and move incomplete items to backlog
-    public void completeSprint() {
+    // Check the completion rules without touching work items; a null target means the backlog
+    public void validateCompletion(Sprint targetSprint) {
         if (status != SprintStatus.ACTIVE) {
             throw new IllegalStateException("Can only complete sprints that are in ACTIVE status");
         }
 
+        if (targetSprint == null) {
+            return;
+        }
+
+        if (!targetSprint.getProject().getId().equals(this.project.getId())) {
+            throw new IllegalArgumentException("Target sprint must belong to the same project");
+        }
+
+        if (targetSprint.getStatus() == SprintStatus.COMPLETED) {
+            throw new IllegalArgumentException("Cannot move items to a completed sprint");
+        }
+    }
+
+    // Complete the sprint and move incomplete items to backlog
+    public void completeSprint() {
+        validateCompletion(null);
+
         // Find incomplete work items (TODO or IN_PROGRESS)
         List<WorkItem> incompleteItems = workItems.stream()
                 .filter(wi -> wi.getStatus() == WorkItemStatus.TODO || 
@@ -68,23 +97,12 @@ public class Sprint {
 
     // Complete the sprint and move incomplete items to specified sprint
     public void completeSprint(Sprint targetSprint) {
-        if (status != SprintStatus.ACTIVE) {
-            throw new IllegalStateException("Can only complete sprints that are in ACTIVE status");
-        }
-        
         if (targetSprint == null) {
             completeSprint();
             return;
         }
 
-        // Validate target sprint
-        if (!targetSprint.getProject().getId().equals(this.project.getId())) {
-            throw new IllegalArgumentException("Target sprint must belong to the same project");
-        }
-        
-        if (targetSprint.getStatus() == SprintStatus.COMPLETED) {
-            throw new IllegalArgumentException("Cannot move items to a completed sprint");
-        }
+        validateCompletion(targetSprint);
 
         // Find incomplete work items (TODO or IN_PROGRESS)
         List<WorkItem> incompleteItems = workItems.stream()
@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -21,12 +22,21 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "work_items")
+@Table(name = "work_items", indexes = {
+    @Index(name = "idx_work_items_project_location", columnList = "project_id, location"),
+    @Index(name = "idx_work_items_project_status", columnList = "project_id, status"),
+    @Index(name = "idx_work_items_sprint_status", columnList = "sprint_id, status"),
+    @Index(name = "idx_work_items_epic", columnList = "epic_id")
+})
 public class WorkItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_items_seq")
+    @SequenceGenerator(name = "work_items_seq", sequenceName = "work_items_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     private String title;
     private String description;
 
@@ -44,22 +54,24 @@ public class WorkItem {
     @Enumerated(EnumType.STRING)
     private WorkItemLocation location = WorkItemLocation.BACKLOG; // Default to backlog
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sprint_id")
     private Sprint sprint;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
     private Project project;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "epic_id")
     private Epic epic;
 
     @OneToMany(mappedBy = "workItem")
+    @BatchSize(size = 50)
     private Set<CostAssignment> costAssignments = new HashSet<>();
 
     @OneToMany(mappedBy = "workItem")
+    @BatchSize(size = 50)
     private List<PersonAssignment> personAssignments = new ArrayList<>();
 
     // Validation to ensure proper location state
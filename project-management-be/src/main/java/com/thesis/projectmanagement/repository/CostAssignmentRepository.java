@@ -1,14 +1,67 @@
 package com.thesis.projectmanagement.repository;
 
+import com.thesis.projectmanagement.dto.CostAssignmentDTO;
+import com.thesis.projectmanagement.dto.CostAssignmentDetailDTO;
 import com.thesis.projectmanagement.model.CostAssignment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CostAssignmentRepository extends JpaRepository<CostAssignment, Long> {
-    List<CostAssignment> findByCostId(Long costId);
-    List<CostAssignment> findByEpicId(Long epicId);
-    List<CostAssignment> findByWorkItemId(Long workItemId);
-} 
\ No newline at end of file
+    String DTO_QUERY = "select new com.thesis.projectmanagement.dto.CostAssignmentDTO("
+            + "ca.id, ca.cost.id, ca.epic.id, ca.workItem.id, ca.version) "
+            + "from CostAssignment ca ";
+
+    @Query("select ca from CostAssignment ca where ca.cost.id = :costId")
+    List<CostAssignment> findByCostId(@Param("costId") Long costId);
+
+    @Query("select ca from CostAssignment ca where ca.epic.id = :epicId")
+    List<CostAssignment> findByEpicId(@Param("epicId") Long epicId);
+
+    @Query("select ca from CostAssignment ca where ca.workItem.id = :workItemId")
+    List<CostAssignment> findByWorkItemId(@Param("workItemId") Long workItemId);
+
+    @Query(DTO_QUERY + "where ca.id > :after order by ca.id")
+    List<CostAssignmentDTO> findAllDTOs(@Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where ca.id in :ids order by ca.id")
+    List<CostAssignmentDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(DTO_QUERY + "where ca.cost.id = :costId and ca.id > :after order by ca.id")
+    List<CostAssignmentDTO> findDTOsByCostId(@Param("costId") Long costId,
+                                             @Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where ca.epic.id = :epicId and ca.id > :after order by ca.id")
+    List<CostAssignmentDTO> findDTOsByEpicId(@Param("epicId") Long epicId,
+                                             @Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where ca.workItem.id = :workItemId and ca.id > :after order by ca.id")
+    List<CostAssignmentDTO> findDTOsByWorkItemId(@Param("workItemId") Long workItemId,
+                                                 @Param("after") long after, Pageable pageable);
+
+    // Work item detail: assignments joined to their cost in the same select
+    @Query("select new com.thesis.projectmanagement.dto.CostAssignmentDetailDTO("
+            + "ca.id, ca.workItem.id, ca.version, "
+            + "c.id, c.name, c.description, c.amount, c.category, c.version) "
+            + "from CostAssignment ca join ca.cost c "
+            + "where ca.workItem.id = :workItemId order by ca.id")
+    List<CostAssignmentDetailDTO> findDetailsByWorkItemId(@Param("workItemId") Long workItemId);
+
+    @Modifying
+    @Query("delete from CostAssignment ca where ca.epic.id = :epicId")
+    int bulkDeleteByEpicId(@Param("epicId") Long epicId);
+
+    // Assignments on the project's epics or on its work items
+    @Modifying
+    @Query("delete from CostAssignment ca "
+            + "where ca.epic.id in (select e.id from Epic e where e.project.id = :projectId) "
+            + "or ca.workItem.id in (select w.id from WorkItem w where w.project.id = :projectId)")
+    int bulkDeleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -1,12 +1,32 @@
 package com.thesis.projectmanagement.repository;
 
+import com.thesis.projectmanagement.dto.CostDTO;
 import com.thesis.projectmanagement.model.Cost;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CostRepository extends JpaRepository<Cost, Long> {
+    // Projecting also avoids resolving the inverse Cost.assignment one-to-one for every row
+    String DTO_QUERY = "select new com.thesis.projectmanagement.dto.CostDTO("
+            + "c.id, c.name, c.description, c.amount, c.category, c.version) "
+            + "from Cost c ";
+
     List<Cost> findByCategory(String category);
-} 
\ No newline at end of file
+
+    @Query(DTO_QUERY + "where c.id > :after order by c.id")
+    List<CostDTO> findAllDTOs(@Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where c.id in :ids order by c.id")
+    List<CostDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(DTO_QUERY + "where c.category = :category and c.id > :after order by c.id")
+    List<CostDTO> findDTOsByCategory(@Param("category") String category,
+                                     @Param("after") long after, Pageable pageable);
+}
@@ -0,0 +1,79 @@
+package com.thesis.projectmanagement.repository;
+
+import com.thesis.projectmanagement.constants.CostRollupScope;
+import com.thesis.projectmanagement.dto.CostRollupTargetDTO;
+import com.thesis.projectmanagement.dto.CostTotalDTO;
+import com.thesis.projectmanagement.model.CostRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CostRollupRepository extends JpaRepository<CostRollup, Long> {
+    // Where a cost's amount is counted: the assignment's work item, that item's (or the assignment's) epic,
+    // and the project of either
+    String TARGET_QUERY = "select new com.thesis.projectmanagement.dto.CostRollupTargetDTO("
+            + "c.category, c.amount, w.id, coalesce(e.id, w.epic.id), coalesce(e.project.id, w.project.id)) "
+            + "from Cost c left join c.assignment ca left join ca.epic e left join ca.workItem w ";
+
+    Optional<CostRollup> findByScopeAndScopeKey(CostRollupScope scope, String scopeKey);
+
+    @Query(TARGET_QUERY + "where c.id = :costId")
+    Optional<CostRollupTargetDTO> findTargetByCostId(@Param("costId") Long costId);
+
+    @Query(TARGET_QUERY + "where ca.id = :assignmentId")
+    Optional<CostRollupTargetDTO> findTargetByAssignmentId(@Param("assignmentId") Long assignmentId);
+
+    // Atomic increment; returns 0 when the row does not exist yet
+    @Modifying
+    @Query("update versioned CostRollup r set r.total = r.total + :delta "
+            + "where r.scope = :scope and r.scopeKey = :key")
+    int addToTotal(@Param("scope") CostRollupScope scope, @Param("key") String key, @Param("delta") BigDecimal delta);
+
+    @Modifying
+    @Query("delete from CostRollup r where r.scope = :scope and r.scopeKey = :key")
+    int deleteByKey(@Param("scope") CostRollupScope scope, @Param("key") String key);
+
+    // Rows of the project and of its epics and work items; run before those are deleted
+    @Modifying
+    @Query("delete from CostRollup r where "
+            + "(r.scope = com.thesis.projectmanagement.constants.CostRollupScope.PROJECT and r.scopeKey = :projectKey) "
+            + "or (r.scope = com.thesis.projectmanagement.constants.CostRollupScope.EPIC and r.scopeKey in "
+            + "(select cast(e.id as String) from Epic e where e.project.id = :projectId)) "
+            + "or (r.scope = com.thesis.projectmanagement.constants.CostRollupScope.WORK_ITEM and r.scopeKey in "
+            + "(select cast(w.id as String) from WorkItem w where w.project.id = :projectId))")
+    int bulkDeleteByProjectId(@Param("projectId") Long projectId, @Param("projectKey") String projectKey);
+
+    // Aggregates over the source tables, used to recompute totals from scratch. Each amount is rounded
+    // to cents before it is summed, as CostRollupService.money() does for the incremental updates
+    String ROUNDED_SUM = "sum(round(cast(c.amount as BigDecimal), 2))";
+
+    @Query("select coalesce(" + ROUNDED_SUM + ", 0) from CostAssignment ca join ca.cost c "
+            + "left join ca.epic e left join ca.workItem w "
+            + "where e.project.id = :projectId or w.project.id = :projectId")
+    BigDecimal sumByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select new com.thesis.projectmanagement.dto.CostTotalDTO(w.id, " + ROUNDED_SUM + ") "
+            + "from CostAssignment ca join ca.cost c join ca.workItem w group by w.id")
+    List<CostTotalDTO> sumByWorkItem();
+
+    @Query("select new com.thesis.projectmanagement.dto.CostTotalDTO(coalesce(e.id, w.epic.id), " + ROUNDED_SUM + ") "
+            + "from CostAssignment ca join ca.cost c left join ca.epic e left join ca.workItem w "
+            + "where coalesce(e.id, w.epic.id) is not null group by coalesce(e.id, w.epic.id)")
+    List<CostTotalDTO> sumByEpic();
+
+    @Query("select new com.thesis.projectmanagement.dto.CostTotalDTO(coalesce(e.project.id, w.project.id), " + ROUNDED_SUM + ") "
+            + "from CostAssignment ca join ca.cost c left join ca.epic e left join ca.workItem w "
+            + "group by coalesce(e.project.id, w.project.id)")
+    List<CostTotalDTO> sumByProject();
+
+    @Query("select new com.thesis.projectmanagement.dto.CostTotalDTO(c.category, " + ROUNDED_SUM + ") "
+            + "from Cost c where c.category is not null group by c.category")
+    List<CostTotalDTO> sumByCategory();
+}
@@ -1,12 +1,62 @@
 package com.thesis.projectmanagement.repository;
 
+import com.thesis.projectmanagement.dto.EpicDTO;
+import com.thesis.projectmanagement.dto.EpicOverviewDTO;
 import com.thesis.projectmanagement.model.Epic;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface EpicRepository extends JpaRepository<Epic, Long> {
-    List<Epic> findByProjectId(Long projectId);
-} 
\ No newline at end of file
+    String DTO_QUERY = "select new com.thesis.projectmanagement.dto.EpicDTO("
+            + "e.id, e.title, e.description, e.startDate, e.endDate, e.project.id, e.version) "
+            + "from Epic e ";
+
+    @Query(DTO_QUERY + "where e.id > :after order by e.id")
+    List<EpicDTO> findAllDTOs(@Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where e.id in :ids order by e.id")
+    List<EpicDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(DTO_QUERY + "where e.project.id = :projectId and e.id > :after order by e.id")
+    List<EpicDTO> findDTOsByProjectId(@Param("projectId") Long projectId,
+                                      @Param("after") long after, Pageable pageable);
+
+    // One row per epic; each figure is a correlated subquery over an indexed key. Work item counts
+    // come from the progress counters and the cost from the epic's cost rollup. People are counted in
+    // two parts, so that neither needs an or across indexes: those assigned to the epic itself, plus
+    // those assigned only through one of its work items
+    @Query("select new com.thesis.projectmanagement.dto.EpicOverviewDTO("
+            + "e.id, e.title, e.description, e.startDate, e.endDate, e.project.id, e.version, "
+            + "(select coalesce(sum(pc.items), 0L) from ProgressCounter pc "
+            + "where pc.scope = com.thesis.projectmanagement.constants.ProgressScope.EPIC and pc.ownerId = e.id), "
+            + "(select coalesce(sum(pc.items), 0L) from ProgressCounter pc "
+            + "where pc.scope = com.thesis.projectmanagement.constants.ProgressScope.EPIC and pc.ownerId = e.id "
+            + "and pc.status = com.thesis.projectmanagement.constants.WorkItemStatus.DONE), "
+            + "(select count(distinct pa.person.id) from PersonAssignment pa where pa.epic = e) "
+            + "+ (select count(distinct pw.person.id) from PersonAssignment pw join pw.workItem w "
+            + "where w.epic = e and pw.person.id not in "
+            + "(select pe.person.id from PersonAssignment pe where pe.epic = e and pe.person is not null)), "
+            + "(select r.total from CostRollup r "
+            + "where r.scope = com.thesis.projectmanagement.constants.CostRollupScope.EPIC "
+            + "and r.scopeKey = cast(e.id as String))) "
+            + "from Epic e where e.project.id = :projectId order by e.id")
+    List<EpicOverviewDTO> findOverviewsByProjectId(@Param("projectId") Long projectId);
+
+    // Run after the references to the epic are gone; the epic loaded before them is detached by
+    // then. Deletes nothing if the epic changed since it was read.
+    @Modifying
+    @Query("delete from Epic e where e.id = :id and e.version = :version")
+    int bulkDeleteById(@Param("id") Long id, @Param("version") Long version);
+
+    @Modifying
+    @Query("delete from Epic e where e.project.id = :projectId")
+    int bulkDeleteByProjectId(@Param("projectId") Long projectId);
+}
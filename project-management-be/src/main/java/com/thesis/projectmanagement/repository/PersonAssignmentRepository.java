@@ -1,14 +1,113 @@
 package com.thesis.projectmanagement.repository;
 
+import com.thesis.projectmanagement.dto.PersonAssignmentDTO;
+import com.thesis.projectmanagement.dto.PersonAssignmentDetailDTO;
+import com.thesis.projectmanagement.dto.PersonEpicHoursDTO;
+import com.thesis.projectmanagement.dto.PersonSprintHoursDTO;
 import com.thesis.projectmanagement.model.PersonAssignment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PersonAssignmentRepository extends JpaRepository<PersonAssignment, Long> {
-    List<PersonAssignment> findByPersonId(Long personId);
-    List<PersonAssignment> findByEpicId(Long epicId);
-    List<PersonAssignment> findByWorkItemId(Long workItemId);
-} 
\ No newline at end of file
+    String DTO_QUERY = "select new com.thesis.projectmanagement.dto.PersonAssignmentDTO("
+            + "pa.id, pa.person.id, pa.epic.id, pa.workItem.id, pa.hours, pa.description, pa.version) "
+            + "from PersonAssignment pa ";
+
+    // Resource rollup: hours summed per person and sprint / epic, one row per matrix cell
+    String SPRINT_HOURS_QUERY = "select new com.thesis.projectmanagement.dto.PersonSprintHoursDTO("
+            + "p.id, p.name, w.sprint.id, sum(pa.hours)) "
+            + "from PersonAssignment pa join pa.person p join pa.workItem w "
+            + "where w.project.id = :projectId and w.sprint is not null ";
+    String SPRINT_HOURS_GROUPING = "group by p.id, p.name, w.sprint.id order by p.id, w.sprint.id";
+
+    // An assignment sits either on an epic or on a work item, which may in turn belong to an epic
+    String EPIC_HOURS_QUERY = "select new com.thesis.projectmanagement.dto.PersonEpicHoursDTO("
+            + "p.id, p.name, coalesce(e.id, we.id), "
+            + "sum(case when w.id is null then pa.hours else 0.0 end), "
+            + "sum(case when w.id is not null then pa.hours else 0.0 end)) "
+            + "from PersonAssignment pa join pa.person p left join pa.epic e "
+            + "left join pa.workItem w left join w.epic we "
+            + "where coalesce(e.project.id, we.project.id) = :projectId ";
+    String EPIC_HOURS_GROUPING = "group by p.id, p.name, coalesce(e.id, we.id) order by p.id, coalesce(e.id, we.id)";
+
+    @Query("select pa from PersonAssignment pa where pa.person.id = :personId")
+    List<PersonAssignment> findByPersonId(@Param("personId") Long personId);
+
+    @Query("select pa from PersonAssignment pa where pa.epic.id = :epicId")
+    List<PersonAssignment> findByEpicId(@Param("epicId") Long epicId);
+
+    @Query("select pa from PersonAssignment pa where pa.workItem.id = :workItemId")
+    List<PersonAssignment> findByWorkItemId(@Param("workItemId") Long workItemId);
+
+    @Query(DTO_QUERY + "where pa.id > :after order by pa.id")
+    List<PersonAssignmentDTO> findAllDTOs(@Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where pa.id in :ids order by pa.id")
+    List<PersonAssignmentDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(DTO_QUERY + "where pa.person.id = :personId and pa.id > :after order by pa.id")
+    List<PersonAssignmentDTO> findDTOsByPersonId(@Param("personId") Long personId,
+                                                 @Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where pa.epic.id = :epicId and pa.id > :after order by pa.id")
+    List<PersonAssignmentDTO> findDTOsByEpicId(@Param("epicId") Long epicId,
+                                               @Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where pa.workItem.id = :workItemId and pa.id > :after order by pa.id")
+    List<PersonAssignmentDTO> findDTOsByWorkItemId(@Param("workItemId") Long workItemId,
+                                                   @Param("after") long after, Pageable pageable);
+
+    // Work item detail: assignments joined to their person in the same select
+    @Query("select new com.thesis.projectmanagement.dto.PersonAssignmentDetailDTO("
+            + "pa.id, pa.workItem.id, pa.hours, pa.description, pa.version, "
+            + "p.id, p.name, p.email, p.role, p.version) "
+            + "from PersonAssignment pa join pa.person p "
+            + "where pa.workItem.id = :workItemId order by pa.id")
+    List<PersonAssignmentDetailDTO> findDetailsByWorkItemId(@Param("workItemId") Long workItemId);
+
+    @Query(SPRINT_HOURS_QUERY + SPRINT_HOURS_GROUPING)
+    List<PersonSprintHoursDTO> sumHoursByPersonAndSprint(@Param("projectId") Long projectId);
+
+    @Query(SPRINT_HOURS_QUERY + "and w.sprint.id in :sprintIds " + SPRINT_HOURS_GROUPING)
+    List<PersonSprintHoursDTO> sumHoursByPersonAndSprint(@Param("projectId") Long projectId,
+                                                         @Param("sprintIds") Collection<Long> sprintIds);
+
+    @Query(EPIC_HOURS_QUERY + EPIC_HOURS_GROUPING)
+    List<PersonEpicHoursDTO> sumHoursByPersonAndEpic(@Param("projectId") Long projectId);
+
+    // Epic-level hours always count; work-item hours only for backlog items and the selected sprints
+    @Query(EPIC_HOURS_QUERY + "and (w.id is null or w.sprint is null or w.sprint.id in :sprintIds) "
+            + EPIC_HOURS_GROUPING)
+    List<PersonEpicHoursDTO> sumHoursByPersonAndEpic(@Param("projectId") Long projectId,
+                                                     @Param("sprintIds") Collection<Long> sprintIds);
+
+    // Team size for the project dashboard
+    @Query("select count(distinct pa.person.id) from PersonAssignment pa "
+            + "left join pa.epic e left join pa.workItem w "
+            + "where coalesce(e.project.id, w.project.id) = :projectId")
+    long countPersonsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select coalesce(e.project.id, w.project.id) from PersonAssignment pa "
+            + "left join pa.epic e left join pa.workItem w where pa.id = :id")
+    Optional<Long> findProjectIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query("delete from PersonAssignment pa where pa.epic.id = :epicId")
+    int bulkDeleteByEpicId(@Param("epicId") Long epicId);
+
+    // Assignments on the project's epics or on its work items
+    @Modifying
+    @Query("delete from PersonAssignment pa "
+            + "where pa.epic.id in (select e.id from Epic e where e.project.id = :projectId) "
+            + "or pa.workItem.id in (select w.id from WorkItem w where w.project.id = :projectId)")
+    int bulkDeleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -1,14 +1,39 @@
 package com.thesis.projectmanagement.repository;
 
+import com.thesis.projectmanagement.dto.PersonDTO;
 import com.thesis.projectmanagement.model.Person;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
-public interface PersonRepository extends JpaRepository<Person, Long> {
+public interface PersonRepository extends JpaRepository<Person, Long>, PersonRepositoryCustom {
+    String DTO_QUERY = "select new com.thesis.projectmanagement.dto.PersonDTO("
+            + "p.id, p.name, p.email, p.role, p.version) "
+            + "from Person p ";
+
+    // Selectable fields for ?fields= (see SparseQueryRepository)
+    SparseView SPARSE_VIEW = new SparseView("persons", "Person", "p", SparseView.paths(
+            "id", "p.id",
+            "name", "p.name",
+            "email", "p.email",
+            "role", "p.role",
+            "version", "p.version"));
+
     List<Person> findByRole(String role);
-    Optional<Person> findByEmail(String email);
-} 
\ No newline at end of file
+
+    @Query(DTO_QUERY + "where p.id > :after order by p.id")
+    List<PersonDTO> findAllDTOs(@Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where p.id in :ids order by p.id")
+    List<PersonDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(DTO_QUERY + "where p.role = :role and p.id > :after order by p.id")
+    List<PersonDTO> findDTOsByRole(@Param("role") String role,
+                                   @Param("after") long after, Pageable pageable);
+}
@@ -0,0 +1,10 @@
+package com.thesis.projectmanagement.repository;
+
+import com.thesis.projectmanagement.model.Person;
+
+import java.util.Optional;
+
+public interface PersonRepositoryCustom {
+    // Resolved through the natural-id cache instead of a query on every call
+    Optional<Person> findByEmail(String email);
+}
@@ -0,0 +1,23 @@
+package com.thesis.projectmanagement.repository;
+
+import com.thesis.projectmanagement.model.Person;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+class PersonRepositoryCustomImpl implements PersonRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Person> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Person.class)
+                .loadOptional(email);
+    }
+}
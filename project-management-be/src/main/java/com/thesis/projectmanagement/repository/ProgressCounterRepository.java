@@ -0,0 +1,69 @@
+package com.thesis.projectmanagement.repository;
+
+import com.thesis.projectmanagement.constants.ProgressScope;
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import com.thesis.projectmanagement.dto.ProgressCountDTO;
+import com.thesis.projectmanagement.model.ProgressCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProgressCounterRepository extends JpaRepository<ProgressCounter, Long> {
+    List<ProgressCounter> findByScopeAndOwnerId(ProgressScope scope, Long ownerId);
+
+    // The counters of one epic or sprint, locked until the transaction ends so no increment lands in between
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ProgressCounter c where c.scope = :scope and c.ownerId = :ownerId")
+    List<ProgressCounter> findByOwnerForUpdate(@Param("scope") ProgressScope scope, @Param("ownerId") Long ownerId);
+
+    @Query("select distinct c.ownerId from ProgressCounter c where c.scope = :scope")
+    List<Long> findOwnerIds(@Param("scope") ProgressScope scope);
+
+    @Query("select e.id from Epic e")
+    List<Long> findEpicIds();
+
+    @Query("select s.id from Sprint s")
+    List<Long> findSprintIds();
+
+    // Atomic increment; returns 0 when the row does not exist yet
+    @Modifying
+    @Query("update versioned ProgressCounter c set c.items = c.items + :items, "
+            + "c.storyPoints = c.storyPoints + :storyPoints "
+            + "where c.scope = :scope and c.ownerId = :ownerId and c.status = :status")
+    int addToCounter(@Param("scope") ProgressScope scope, @Param("ownerId") Long ownerId,
+                     @Param("status") WorkItemStatus status,
+                     @Param("items") long items, @Param("storyPoints") long storyPoints);
+
+    @Modifying
+    @Query("delete from ProgressCounter c where c.scope = :scope and c.ownerId = :ownerId")
+    int deleteByOwner(@Param("scope") ProgressScope scope, @Param("ownerId") Long ownerId);
+
+    // Counters of the project's epics and sprints; run before those are deleted
+    @Modifying
+    @Query("delete from ProgressCounter c where "
+            + "(c.scope = com.thesis.projectmanagement.constants.ProgressScope.EPIC and c.ownerId in "
+            + "(select e.id from Epic e where e.project.id = :projectId)) "
+            + "or (c.scope = com.thesis.projectmanagement.constants.ProgressScope.SPRINT and c.ownerId in "
+            + "(select s.id from Sprint s where s.project.id = :projectId))")
+    int bulkDeleteByProjectId(@Param("projectId") Long projectId);
+
+    // Counts straight from the work items; items without a status are not tracked
+    @Query("select new com.thesis.projectmanagement.dto.ProgressCountDTO("
+            + "w.sprint.id, w.status, count(w), coalesce(sum(w.storyPoints), 0L)) "
+            + "from WorkItem w where w.status is not null and w.sprint.id = :sprintId "
+            + "group by w.sprint.id, w.status")
+    List<ProgressCountDTO> countBySprintId(@Param("sprintId") Long sprintId);
+
+    @Query("select new com.thesis.projectmanagement.dto.ProgressCountDTO("
+            + "w.epic.id, w.status, count(w), coalesce(sum(w.storyPoints), 0L)) "
+            + "from WorkItem w where w.status is not null and w.epic.id = :epicId "
+            + "group by w.epic.id, w.status")
+    List<ProgressCountDTO> countByEpicId(@Param("epicId") Long epicId);
+}
@@ -1,14 +1,40 @@
 package com.thesis.projectmanagement.repository;
 
 import com.thesis.projectmanagement.constants.ProjectStatus;
+import com.thesis.projectmanagement.dto.ProjectDTO;
 import com.thesis.projectmanagement.model.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    String DTO_QUERY = "select new com.thesis.projectmanagement.dto.ProjectDTO("
+            + "p.id, p.title, p.description, p.status, p.version) "
+            + "from Project p ";
+
     List<Project> findByStatus(ProjectStatus status);
     boolean existsByTitle(String title);
-} 
\ No newline at end of file
+
+    @Query(DTO_QUERY + "where p.id > :after order by p.id")
+    List<ProjectDTO> findAllDTOs(@Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where p.id in :ids order by p.id")
+    List<ProjectDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(DTO_QUERY + "where p.status = :status and p.id > :after order by p.id")
+    List<ProjectDTO> findDTOsByStatus(@Param("status") ProjectStatus status,
+                                      @Param("after") long after, Pageable pageable);
+
+    // Skips the cascade, which would load every sprint, epic and work item collection first.
+    // Deletes nothing if the project changed since it was read.
+    @Modifying
+    @Query("delete from Project p where p.id = :id and p.version = :version")
+    int bulkDeleteById(@Param("id") Long id, @Param("version") Long version);
+}
@@ -0,0 +1,51 @@
+package com.thesis.projectmanagement.repository;
+
+import com.thesis.projectmanagement.dto.CursorRequest;
+import com.thesis.projectmanagement.dto.FieldSet;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Tuple queries behind ?fields=: only the selected columns are read, and each row comes back
+// as a field -> value map in the view's order, so unselected fields are absent from the JSON too
+@Repository
+public class SparseQueryRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // `condition` may reference :value, bound to `value`; null selects every row
+    public List<Map<String, Object>> find(SparseView view, FieldSet fieldSet,
+                                          String condition, Object value, CursorRequest cursor) {
+        List<String> fields = view.select(fieldSet);
+        String jpql = "select " + fields.stream().map(view.paths()::get).collect(Collectors.joining(", "))
+                + " from " + view.entity() + " " + view.alias()
+                + " where " + view.id() + " > :after"
+                + (condition != null ? " and " + condition : "")
+                + " order by " + view.id();
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("after", cursor.afterId());
+        if (condition != null) {
+            query.setParameter("value", value);
+        }
+        query.setMaxResults(cursor.pageSize());
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                row.put(fields.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
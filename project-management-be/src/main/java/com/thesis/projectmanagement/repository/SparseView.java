@@ -0,0 +1,47 @@
+package com.thesis.projectmanagement.repository;
+
+import com.thesis.projectmanagement.dto.FieldSet;
+import com.thesis.projectmanagement.dto.InvalidListRequestException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// The fields a sparse list query may select for one entity, with their JPQL paths in output order.
+// Only whitelisted names ever reach the query text. Parent ids use the foreign key path
+// (w.sprint.id), which Hibernate reads from the owning table without a join.
+public record SparseView(String resource, String entity, String alias, Map<String, String> paths) {
+
+    public static Map<String, String> paths(String... fieldsAndPaths) {
+        Map<String, String> paths = new LinkedHashMap<>();
+        for (int i = 0; i < fieldsAndPaths.length; i += 2) {
+            paths.put(fieldsAndPaths[i], fieldsAndPaths[i + 1]);
+        }
+        return Collections.unmodifiableMap(paths);
+    }
+
+    public String id() {
+        return alias + ".id";
+    }
+
+    // The requested fields plus the id, validated and in output order
+    List<String> select(FieldSet fieldSet) {
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add("id");
+        for (String field : fieldSet.fields()) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!paths.containsKey(name)) {
+                throw new InvalidListRequestException("Unknown field for " + resource + ": " + name
+                        + " (allowed: " + String.join(", ", paths.keySet()) + ")");
+            }
+            requested.add(name);
+        }
+        return paths.keySet().stream().filter(requested::contains).toList();
+    }
+}
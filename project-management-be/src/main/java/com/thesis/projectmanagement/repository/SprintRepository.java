@@ -1,14 +1,49 @@
 package com.thesis.projectmanagement.repository;
 
 import com.thesis.projectmanagement.constants.SprintStatus;
+import com.thesis.projectmanagement.dto.SprintDTO;
 import com.thesis.projectmanagement.model.Sprint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SprintRepository extends JpaRepository<Sprint, Long> {
-    List<Sprint> findByProjectId(Long projectId);
-    List<Sprint> findByProjectIdAndStatus(Long projectId, SprintStatus status);
-} 
\ No newline at end of file
+    String DTO_QUERY = "select new com.thesis.projectmanagement.dto.SprintDTO("
+            + "s.id, s.name, s.goal, s.status, s.startDate, s.endDate, s.project.id, s.version) "
+            + "from Sprint s ";
+
+    @Query(DTO_QUERY + "where s.id > :after order by s.id")
+    List<SprintDTO> findAllDTOs(@Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where s.id in :ids order by s.id")
+    List<SprintDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(DTO_QUERY + "where s.project.id = :projectId and s.id > :after order by s.id")
+    List<SprintDTO> findDTOsByProjectId(@Param("projectId") Long projectId,
+                                        @Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where s.project.id = :projectId and s.status = :status and s.id > :after order by s.id")
+    List<SprintDTO> findDTOsByProjectIdAndStatus(@Param("projectId") Long projectId,
+                                                 @Param("status") SprintStatus status,
+                                                 @Param("after") long after, Pageable pageable);
+
+    // Project timeline: the sprints in calendar order, undated ones last
+    @Query(DTO_QUERY + "where s.project.id = :projectId order by s.startDate nulls last, s.id")
+    List<SprintDTO> findTimelineSprints(@Param("projectId") Long projectId);
+
+    @Query(DTO_QUERY + "where s.project.id = :projectId and s.id in :sprintIds "
+            + "order by s.startDate nulls last, s.id")
+    List<SprintDTO> findTimelineSprints(@Param("projectId") Long projectId,
+                                        @Param("sprintIds") Collection<Long> sprintIds);
+
+    @Modifying
+    @Query("delete from Sprint s where s.project.id = :projectId")
+    int bulkDeleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -2,17 +2,117 @@ package com.thesis.projectmanagement.repository;
 
 import com.thesis.projectmanagement.constants.WorkItemLocation;
 import com.thesis.projectmanagement.constants.WorkItemStatus;
+import com.thesis.projectmanagement.dto.TimelineRowDTO;
+import com.thesis.projectmanagement.dto.WorkItemDTO;
+import com.thesis.projectmanagement.model.Sprint;
 import com.thesis.projectmanagement.model.WorkItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface WorkItemRepository extends JpaRepository<WorkItem, Long> {
-    List<WorkItem> findByProjectId(Long projectId);
-    List<WorkItem> findBySprintId(Long sprintId);
-    List<WorkItem> findByEpicId(Long epicId);
-    List<WorkItem> findByProjectIdAndLocation(Long projectId, WorkItemLocation location);
-    List<WorkItem> findByProjectIdAndStatus(Long projectId, WorkItemStatus status);
-} 
\ No newline at end of file
+    // Read-only projection straight into the DTO, bypassing the persistence context
+    String DTO_QUERY = "select new com.thesis.projectmanagement.dto.WorkItemDTO("
+            + "w.id, w.title, w.description, w.status, w.priority, w.type, w.location, w.storyPoints, "
+            + "w.sprint.id, w.project.id, w.epic.id, w.version) "
+            + "from WorkItem w ";
+
+    // Selectable fields for ?fields= (see SparseQueryRepository)
+    SparseView SPARSE_VIEW = new SparseView("work items", "WorkItem", "w", SparseView.paths(
+            "id", "w.id",
+            "title", "w.title",
+            "description", "w.description",
+            "status", "w.status",
+            "priority", "w.priority",
+            "type", "w.type",
+            "location", "w.location",
+            "storyPoints", "w.storyPoints",
+            "sprintId", "w.sprint.id",
+            "projectId", "w.project.id",
+            "epicId", "w.epic.id",
+            "version", "w.version"));
+
+    // Filters name the foreign key (w.project.id) rather than a joined parent's id: a derived
+    // findByProjectId joins the project and filters on projects.id, so H2 scans work_items
+    // instead of using the indexes declared on WorkItem (see IndexUsageTest)
+    @Query(DTO_QUERY + "where w.id > :after order by w.id")
+    List<WorkItemDTO> findAllDTOs(@Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where w.id in :ids order by w.id")
+    List<WorkItemDTO> findDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(DTO_QUERY + "where w.project.id = :projectId and w.id > :after order by w.id")
+    List<WorkItemDTO> findDTOsByProjectId(@Param("projectId") Long projectId,
+                                          @Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where w.sprint.id = :sprintId and w.id > :after order by w.id")
+    List<WorkItemDTO> findDTOsBySprintId(@Param("sprintId") Long sprintId,
+                                         @Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where w.epic.id = :epicId and w.id > :after order by w.id")
+    List<WorkItemDTO> findDTOsByEpicId(@Param("epicId") Long epicId,
+                                       @Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where w.project.id = :projectId and w.location = :location and w.id > :after order by w.id")
+    List<WorkItemDTO> findDTOsByProjectIdAndLocation(@Param("projectId") Long projectId,
+                                                     @Param("location") WorkItemLocation location,
+                                                     @Param("after") long after, Pageable pageable);
+
+    @Query(DTO_QUERY + "where w.project.id = :projectId and w.status = :status and w.id > :after order by w.id")
+    List<WorkItemDTO> findDTOsByProjectIdAndStatus(@Param("projectId") Long projectId,
+                                                   @Param("status") WorkItemStatus status,
+                                                   @Param("after") long after, Pageable pageable);
+
+    // Timeline: sprint-planned work items with their epic and sprint dates, already in display order
+    String TIMELINE_QUERY = "select new com.thesis.projectmanagement.dto.TimelineRowDTO("
+            + "e.id, e.title, e.startDate, e.endDate, w.id, w.title, w.status, w.location, "
+            + "s.id, s.name, s.startDate, s.endDate) "
+            + "from WorkItem w join w.epic e join w.sprint s "
+            + "where w.project.id = :projectId "
+            + "and w.location = com.thesis.projectmanagement.constants.WorkItemLocation.SPRINT ";
+    String TIMELINE_ORDER = "order by e.startDate nulls last, e.id, s.startDate nulls last, w.id";
+
+    @Query(TIMELINE_QUERY + TIMELINE_ORDER)
+    List<TimelineRowDTO> findTimelineRows(@Param("projectId") Long projectId);
+
+    @Query(TIMELINE_QUERY + "and s.id in :sprintIds " + TIMELINE_ORDER)
+    List<TimelineRowDTO> findTimelineRows(@Param("projectId") Long projectId,
+                                          @Param("sprintIds") Collection<Long> sprintIds);
+
+    @Query("select count(w) > 0 from WorkItem w where w.sprint.id = :sprintId")
+    boolean existsBySprintId(@Param("sprintId") Long sprintId);
+
+    // Set-based updates used by the cascading deletes; they bypass the persistence context.
+    // The callers keep using the epic or sprint afterwards, so pending changes are flushed
+    // first and the context is cleared after: no work item loaded earlier in the transaction
+    // keeps its old sprint, epic or version
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned WorkItem w set w.epic = null where w.epic.id = :epicId")
+    int bulkClearEpic(@Param("epicId") Long epicId);
+
+    // Sprint completion: move the unfinished items in one statement
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned WorkItem w set w.sprint = null, "
+            + "w.location = com.thesis.projectmanagement.constants.WorkItemLocation.BACKLOG "
+            + "where w.sprint.id = :sprintId and w.status in :statuses")
+    int bulkMoveToBacklog(@Param("sprintId") Long sprintId,
+                          @Param("statuses") Collection<WorkItemStatus> statuses);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update versioned WorkItem w set w.sprint = :targetSprint, "
+            + "w.location = com.thesis.projectmanagement.constants.WorkItemLocation.SPRINT "
+            + "where w.sprint.id = :sprintId and w.status in :statuses")
+    int bulkMoveToSprint(@Param("sprintId") Long sprintId, @Param("targetSprint") Sprint targetSprint,
+                         @Param("statuses") Collection<WorkItemStatus> statuses);
+
+    @Modifying
+    @Query("delete from WorkItem w where w.project.id = :projectId")
+    int bulkDeleteByProjectId(@Param("projectId") Long projectId);
+}
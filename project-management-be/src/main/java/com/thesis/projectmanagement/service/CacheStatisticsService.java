@@ -0,0 +1,35 @@
+package com.thesis.projectmanagement.service;
+
+import com.thesis.projectmanagement.dto.CacheRegionStatisticsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatisticsDTO> getSecondLevelCacheStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toDTO(region, statistics.getDomainDataRegionStatistics(region)))
+                .toList();
+    }
+
+    private CacheRegionStatisticsDTO toDTO(String region, CacheRegionStatistics regionStatistics) {
+        return CacheRegionStatisticsDTO.builder()
+                .region(region)
+                .hitCount(regionStatistics.getHitCount())
+                .missCount(regionStatistics.getMissCount())
+                .putCount(regionStatistics.getPutCount())
+                .build();
+    }
+}
@@ -1,15 +1,18 @@
 package com.thesis.projectmanagement.service;
 
 import com.thesis.projectmanagement.dto.CostAssignmentDTO;
+import com.thesis.projectmanagement.dto.CostRollupTargetDTO;
+import com.thesis.projectmanagement.dto.CursorRequest;
 import com.thesis.projectmanagement.mapper.CostAssignmentMapper;
 import com.thesis.projectmanagement.model.CostAssignment;
 import com.thesis.projectmanagement.repository.CostAssignmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,11 +20,15 @@ import java.util.stream.Collectors;
 public class CostAssignmentService {
     private final CostAssignmentRepository costAssignmentRepository;
     private final CostAssignmentMapper costAssignmentMapper;
+    private final CostRollupService costRollupService;
+    private final ProjectChangeTracker projectChangeTracker;
 
-    public List<CostAssignmentDTO> getAllCostAssignments() {
-        return costAssignmentRepository.findAll().stream()
-                .map(costAssignmentMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<CostAssignmentDTO> getAllCostAssignments(CursorRequest cursor) {
+        return costAssignmentRepository.findAllDTOs(cursor.afterId(), cursor.pageable());
+    }
+
+    public List<CostAssignmentDTO> getCostAssignmentsByIds(List<Long> ids) {
+        return IdBatches.load(ids, costAssignmentRepository::findDTOsByIdIn);
     }
 
     public CostAssignmentDTO getCostAssignment(Long costId) {
@@ -30,29 +37,30 @@ public class CostAssignmentService {
                 .orElseThrow(() -> new IllegalArgumentException("CostAssignment not found"));
     }
 
-    public List<CostAssignmentDTO> getCostAssignmentsByCostId(Long costId) {
-        return costAssignmentRepository.findByCostId(costId).stream()
-                .map(costAssignmentMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<CostAssignmentDTO> getCostAssignmentsByCostId(Long costId, CursorRequest cursor) {
+        return costAssignmentRepository.findDTOsByCostId(costId, cursor.afterId(), cursor.pageable());
     }
 
-    public List<CostAssignmentDTO> getCostAssignmentsByEpicId(Long epicId) {
-        return costAssignmentRepository.findByEpicId(epicId).stream()
-                .map(costAssignmentMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<CostAssignmentDTO> getCostAssignmentsByEpicId(Long epicId, CursorRequest cursor) {
+        return costAssignmentRepository.findDTOsByEpicId(epicId, cursor.afterId(), cursor.pageable());
     }
 
-    public List<CostAssignmentDTO> getCostAssignmentsByWorkItemId(Long workItemId) {
-        return costAssignmentRepository.findByWorkItemId(workItemId).stream()
-                .map(costAssignmentMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<CostAssignmentDTO> getCostAssignmentsByWorkItemId(Long workItemId, CursorRequest cursor) {
+        return costAssignmentRepository.findDTOsByWorkItemId(workItemId, cursor.afterId(), cursor.pageable());
     }
 
     @Transactional
     public CostAssignmentDTO createCostAssignment(CostAssignmentDTO costAssignmentDTO) {
         validateMutualExclusivity(costAssignmentDTO);
         CostAssignment costAssignment = costAssignmentMapper.toEntity(costAssignmentDTO);
-        costAssignment = costAssignmentRepository.save(costAssignment);
+        try {
+            costAssignment = costAssignmentRepository.saveAndFlush(costAssignment);
+        } catch (DataIntegrityViolationException e) {
+            throw costAssignmentMapper.missingReference(costAssignmentDTO, e);
+        }
+        CostRollupTargetDTO after = costRollupService.getAssignmentTarget(costAssignment.getId());
+        costRollupService.assignmentChanged(null, after);
+        projectChangeTracker.changed(after.getProjectId());
         return costAssignmentMapper.toDTO(costAssignment);
     }
 
@@ -61,18 +69,35 @@ public class CostAssignmentService {
         validateMutualExclusivity(costAssignmentDTO);
         CostAssignment existingCostAssignment = costAssignmentRepository.findById(costId)
                 .orElseThrow(() -> new IllegalArgumentException("CostAssignment not found"));
+        if (costAssignmentDTO.getVersion() != null && !costAssignmentDTO.getVersion().equals(existingCostAssignment.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(CostAssignment.class, costId);
+        }
         
+        CostRollupTargetDTO before = costRollupService.getAssignmentTarget(costId);
         costAssignmentMapper.updateEntityFromDTO(costAssignmentDTO, existingCostAssignment);
-        existingCostAssignment = costAssignmentRepository.save(existingCostAssignment);
+        try {
+            existingCostAssignment = costAssignmentRepository.saveAndFlush(existingCostAssignment);
+        } catch (DataIntegrityViolationException e) {
+            throw costAssignmentMapper.missingReference(costAssignmentDTO, e);
+        }
+        CostRollupTargetDTO after = costRollupService.getAssignmentTarget(costId);
+        costRollupService.assignmentChanged(before, after);
+        projectChangeTracker.changed(before.getProjectId());
+        projectChangeTracker.changed(after.getProjectId());
         return costAssignmentMapper.toDTO(existingCostAssignment);
     }
 
     @Transactional
-    public void deleteCostAssignment(Long costId) {
-        if (!costAssignmentRepository.existsById(costId)) {
-            throw new IllegalArgumentException("CostAssignment not found");
+    public void deleteCostAssignment(Long id, Long expectedVersion) {
+        CostRollupTargetDTO before = costRollupService.getAssignmentTarget(id);
+        CostAssignment costAssignment = costAssignmentRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("CostAssignment not found"));
+        if (expectedVersion != null && !expectedVersion.equals(costAssignment.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(CostAssignment.class, id);
         }
-        costAssignmentRepository.deleteById(costId);
+        costAssignmentRepository.delete(costAssignment);
+        costRollupService.assignmentChanged(before, null);
+        projectChangeTracker.changed(before.getProjectId());
     }
 
     private void validateMutualExclusivity(CostAssignmentDTO dto) {
@@ -0,0 +1,200 @@
+package com.thesis.projectmanagement.service;
+
+import com.thesis.projectmanagement.constants.CostRollupScope;
+import com.thesis.projectmanagement.dto.CostRollupTargetDTO;
+import com.thesis.projectmanagement.dto.CostTotalDTO;
+import com.thesis.projectmanagement.model.CostRollup;
+import com.thesis.projectmanagement.repository.CostRollupRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// Cost totals per work item, epic, project and category, kept in the cost_rollups table.
+// The cost and assignment services report every change here inside their own transaction,
+// so a total is a single-row read that never disagrees with the committed costs.
+@Service
+@Transactional(readOnly = true)
+public class CostRollupService {
+    private final CostRollupRepository costRollupRepository;
+    private final TransactionTemplate insertTemplate;
+
+    private record Key(CostRollupScope scope, String key) {
+    }
+
+    public CostRollupService(CostRollupRepository costRollupRepository, PlatformTransactionManager transactionManager) {
+        this.costRollupRepository = costRollupRepository;
+        this.insertTemplate = new TransactionTemplate(transactionManager);
+        this.insertTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public CostTotalDTO getTotal(CostRollupScope scope, String key) {
+        BigDecimal total = costRollupRepository.findByScopeAndScopeKey(scope, key)
+                .map(CostRollup::getTotal)
+                .orElse(BigDecimal.ZERO);
+        return new CostTotalDTO(scope, key, total);
+    }
+
+    public CostRollupTargetDTO getCostTarget(Long costId) {
+        return costRollupRepository.findTargetByCostId(costId)
+                .orElseThrow(() -> new IllegalArgumentException("Cost not found with id: " + costId));
+    }
+
+    public CostRollupTargetDTO getAssignmentTarget(Long assignmentId) {
+        return costRollupRepository.findTargetByAssignmentId(assignmentId)
+                .orElseThrow(() -> new IllegalArgumentException("CostAssignment not found"));
+    }
+
+    // A cost was created, changed or deleted (null before / after); its category and,
+    // if assigned, its work item / epic / project move by the difference
+    @Transactional
+    public void costChanged(CostRollupTargetDTO before, CostRollupTargetDTO after) {
+        Map<Key, BigDecimal> deltas = new LinkedHashMap<>();
+        collect(deltas, before, -1, true);
+        collect(deltas, after, 1, true);
+        apply(deltas);
+    }
+
+    // An assignment was created, moved or deleted; category totals do not depend on assignments
+    @Transactional
+    public void assignmentChanged(CostRollupTargetDTO before, CostRollupTargetDTO after) {
+        Map<Key, BigDecimal> deltas = new LinkedHashMap<>();
+        collect(deltas, before, -1, false);
+        collect(deltas, after, 1, false);
+        apply(deltas);
+    }
+
+    // A work item changed epic or project: its whole total moves with it
+    @Transactional
+    public void workItemMoved(Long workItemId, Long oldEpicId, Long oldProjectId, Long newEpicId, Long newProjectId) {
+        if (Objects.equals(oldEpicId, newEpicId) && Objects.equals(oldProjectId, newProjectId)) {
+            return;
+        }
+        BigDecimal total = costRollupRepository.findByScopeAndScopeKey(CostRollupScope.WORK_ITEM, String.valueOf(workItemId))
+                .map(CostRollup::getTotal)
+                .orElse(BigDecimal.ZERO);
+        if (total.signum() == 0) {
+            return;
+        }
+        Map<Key, BigDecimal> deltas = new LinkedHashMap<>();
+        add(deltas, CostRollupScope.EPIC, oldEpicId, total.negate());
+        add(deltas, CostRollupScope.PROJECT, oldProjectId, total.negate());
+        add(deltas, CostRollupScope.EPIC, newEpicId, total);
+        add(deltas, CostRollupScope.PROJECT, newProjectId, total);
+        apply(deltas);
+    }
+
+    // Runs after the epic's cost assignments were removed and its work items detached
+    @Transactional
+    public void epicDeleted(Long epicId, Long projectId) {
+        costRollupRepository.deleteByKey(CostRollupScope.EPIC, String.valueOf(epicId));
+        if (projectId != null) {
+            String key = String.valueOf(projectId);
+            BigDecimal total = costRollupRepository.sumByProjectId(projectId).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal current = costRollupRepository.findByScopeAndScopeKey(CostRollupScope.PROJECT, key)
+                    .map(CostRollup::getTotal)
+                    .orElse(BigDecimal.ZERO);
+            if (total.compareTo(current) != 0) {
+                increment(new Key(CostRollupScope.PROJECT, key), total.subtract(current));
+            }
+        }
+    }
+
+    // Runs before the project's epics and work items are deleted
+    @Transactional
+    public void projectDeleted(Long projectId) {
+        costRollupRepository.bulkDeleteByProjectId(projectId, String.valueOf(projectId));
+    }
+
+    // Recomputes every total from the source tables; rows written by other means
+    // (seeders, SQL scripts) are picked up at startup
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        costRollupRepository.deleteAllInBatch();
+        List<CostRollup> rollups = new ArrayList<>();
+        addRows(rollups, CostRollupScope.WORK_ITEM, costRollupRepository.sumByWorkItem());
+        addRows(rollups, CostRollupScope.EPIC, costRollupRepository.sumByEpic());
+        addRows(rollups, CostRollupScope.PROJECT, costRollupRepository.sumByProject());
+        addRows(rollups, CostRollupScope.CATEGORY, costRollupRepository.sumByCategory());
+        costRollupRepository.saveAll(rollups);
+    }
+
+    private void addRows(List<CostRollup> rollups, CostRollupScope scope, List<CostTotalDTO> totals) {
+        for (CostTotalDTO total : totals) {
+            if (total.getKey() == null || "null".equals(total.getKey())) {
+                continue;
+            }
+            rollups.add(CostRollup.builder()
+                    .scope(scope)
+                    .scopeKey(total.getKey())
+                    .total(total.getTotal() != null ? total.getTotal().setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO)
+                    .build());
+        }
+    }
+
+    private void collect(Map<Key, BigDecimal> deltas, CostRollupTargetDTO target, int sign, boolean includeCategory) {
+        if (target == null || target.getAmount() == null) {
+            return;
+        }
+        BigDecimal amount = sign < 0 ? money(target.getAmount()).negate() : money(target.getAmount());
+        if (includeCategory && target.getCategory() != null) {
+            deltas.merge(new Key(CostRollupScope.CATEGORY, target.getCategory()), amount, BigDecimal::add);
+        }
+        add(deltas, CostRollupScope.WORK_ITEM, target.getWorkItemId(), amount);
+        add(deltas, CostRollupScope.EPIC, target.getEpicId(), amount);
+        add(deltas, CostRollupScope.PROJECT, target.getProjectId(), amount);
+    }
+
+    private void add(Map<Key, BigDecimal> deltas, CostRollupScope scope, Long id, BigDecimal amount) {
+        if (id != null) {
+            deltas.merge(new Key(scope, String.valueOf(id)), amount, BigDecimal::add);
+        }
+    }
+
+    // Opposite deltas on the same row (e.g. an assignment moved within one project) cancel out
+    private void apply(Map<Key, BigDecimal> deltas) {
+        deltas.forEach((key, delta) -> {
+            if (delta.signum() != 0) {
+                increment(key, delta);
+            }
+        });
+    }
+
+    // Rows are created on their first change. Two transactions can both miss the row, so the
+    // empty row is inserted in a transaction of its own, a duplicate from the other one is
+    // ignored, and the increment is retried against the row that now exists
+    private void increment(Key key, BigDecimal delta) {
+        if (costRollupRepository.addToTotal(key.scope(), key.key(), delta) == 0) {
+            try {
+                insertTemplate.executeWithoutResult(status -> costRollupRepository.save(CostRollup.builder()
+                        .scope(key.scope())
+                        .scopeKey(key.key())
+                        .total(BigDecimal.ZERO)
+                        .build()));
+            } catch (DataIntegrityViolationException e) {
+                // Created concurrently
+            }
+            if (costRollupRepository.addToTotal(key.scope(), key.key(), delta) == 0) {
+                throw new IllegalStateException("Cost rollup row missing for " + key.scope() + " " + key.key());
+            }
+        }
+    }
+
+    // Amounts are stored with cents precision
+    private static BigDecimal money(double amount) {
+        return BigDecimal.valueOf(amount).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -1,15 +1,17 @@
 package com.thesis.projectmanagement.service;
 
 import com.thesis.projectmanagement.dto.CostDTO;
+import com.thesis.projectmanagement.dto.CostRollupTargetDTO;
+import com.thesis.projectmanagement.dto.CursorRequest;
 import com.thesis.projectmanagement.mapper.CostMapper;
 import com.thesis.projectmanagement.model.Cost;
 import com.thesis.projectmanagement.repository.CostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,11 +19,15 @@ import java.util.stream.Collectors;
 public class CostService {
     private final CostRepository costRepository;
     private final CostMapper costMapper;
+    private final CostRollupService costRollupService;
+    private final ProjectChangeTracker projectChangeTracker;
 
-    public List<CostDTO> getAllCosts() {
-        return costRepository.findAll().stream()
-                .map(costMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<CostDTO> getAllCosts(CursorRequest cursor) {
+        return costRepository.findAllDTOs(cursor.afterId(), cursor.pageable());
+    }
+
+    public List<CostDTO> getCostsByIds(List<Long> ids) {
+        return IdBatches.load(ids, costRepository::findDTOsByIdIn);
     }
 
     public CostDTO getCostById(Long id) {
@@ -30,10 +36,8 @@ public class CostService {
                 .orElseThrow(() -> new IllegalArgumentException("Cost not found with id: " + id));
     }
 
-    public List<CostDTO> getCostsByCategory(String category) {
-        return costRepository.findByCategory(category).stream()
-                .map(costMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<CostDTO> getCostsByCategory(String category, CursorRequest cursor) {
+        return costRepository.findDTOsByCategory(category, cursor.afterId(), cursor.pageable());
     }
 
     @Transactional
@@ -41,6 +45,11 @@ public class CostService {
         validateAmount(costDTO.getAmount());
         Cost cost = costMapper.toEntity(costDTO);
         cost = costRepository.save(cost);
+        // A new cost is unassigned, so only its category total changes
+        costRollupService.costChanged(null, CostRollupTargetDTO.builder()
+                .category(cost.getCategory())
+                .amount(cost.getAmount())
+                .build());
         return costMapper.toDTO(cost);
     }
 
@@ -48,22 +57,36 @@ public class CostService {
     public CostDTO updateCost(Long id, CostDTO costDTO) {
         Cost existingCost = costRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Cost not found with id: " + id));
+        if (costDTO.getVersion() != null && !costDTO.getVersion().equals(existingCost.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Cost.class, id);
+        }
         
         if (costDTO.getAmount() != null) {
             validateAmount(costDTO.getAmount());
         }
         
+        CostRollupTargetDTO before = costRollupService.getCostTarget(id);
         costMapper.updateEntityFromDTO(costDTO, existingCost);
-        existingCost = costRepository.save(existingCost);
+        existingCost = costRepository.saveAndFlush(existingCost);
+        costRollupService.costChanged(before, before.toBuilder()
+                .category(existingCost.getCategory())
+                .amount(existingCost.getAmount())
+                .build());
+        projectChangeTracker.changed(before.getProjectId());
         return costMapper.toDTO(existingCost);
     }
 
     @Transactional
-    public void deleteCost(Long id) {
-        if (!costRepository.existsById(id)) {
-            throw new IllegalArgumentException("Cost not found with id: " + id);
+    public void deleteCost(Long id, Long expectedVersion) {
+        CostRollupTargetDTO before = costRollupService.getCostTarget(id);
+        Cost cost = costRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Cost not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(cost.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Cost.class, id);
         }
-        costRepository.deleteById(id);
+        costRepository.delete(cost);
+        costRollupService.costChanged(before, null);
+        projectChangeTracker.changed(before.getProjectId());
     }
 
     private void validateAmount(Double amount) {
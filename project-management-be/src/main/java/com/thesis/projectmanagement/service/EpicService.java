@@ -1,21 +1,22 @@
 package com.thesis.projectmanagement.service;
 
+import com.thesis.projectmanagement.constants.ProgressScope;
+import com.thesis.projectmanagement.dto.CursorRequest;
 import com.thesis.projectmanagement.dto.EpicDTO;
+import com.thesis.projectmanagement.dto.EpicOverviewDTO;
 import com.thesis.projectmanagement.mapper.EpicMapper;
 import com.thesis.projectmanagement.model.Epic;
-import com.thesis.projectmanagement.model.WorkItem;
-import com.thesis.projectmanagement.model.CostAssignment;
-import com.thesis.projectmanagement.model.PersonAssignment;
 import com.thesis.projectmanagement.repository.EpicRepository;
 import com.thesis.projectmanagement.repository.WorkItemRepository;
 import com.thesis.projectmanagement.repository.CostAssignmentRepository;
 import com.thesis.projectmanagement.repository.PersonAssignmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,11 +27,16 @@ public class EpicService {
     private final WorkItemRepository workItemRepository;
     private final CostAssignmentRepository costAssignmentRepository;
     private final PersonAssignmentRepository personAssignmentRepository;
+    private final CostRollupService costRollupService;
+    private final ProgressCounterService progressCounterService;
+    private final ProjectChangeTracker projectChangeTracker;
 
-    public List<EpicDTO> getAllEpics() {
-        return epicRepository.findAll().stream()
-                .map(epicMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<EpicDTO> getAllEpics(CursorRequest cursor) {
+        return epicRepository.findAllDTOs(cursor.afterId(), cursor.pageable());
+    }
+
+    public List<EpicDTO> getEpicsByIds(List<Long> ids) {
+        return IdBatches.load(ids, epicRepository::findDTOsByIdIn);
     }
 
     public EpicDTO getEpicById(Long id) {
@@ -39,16 +45,23 @@ public class EpicService {
                 .orElseThrow(() -> new IllegalArgumentException("Epic not found with id: " + id));
     }
 
-    public List<EpicDTO> getEpicsByProjectId(Long projectId) {
-        return epicRepository.findByProjectId(projectId).stream()
-                .map(epicMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<EpicDTO> getEpicsByProjectId(Long projectId, CursorRequest cursor) {
+        return epicRepository.findDTOsByProjectId(projectId, cursor.afterId(), cursor.pageable());
+    }
+
+    public List<EpicOverviewDTO> getEpicOverview(Long projectId) {
+        return epicRepository.findOverviewsByProjectId(projectId);
     }
 
     @Transactional
     public EpicDTO createEpic(EpicDTO epicDTO) {
         Epic epic = epicMapper.toEntity(epicDTO);
-        epic = epicRepository.save(epic);
+        try {
+            epic = epicRepository.saveAndFlush(epic);
+        } catch (DataIntegrityViolationException e) {
+            throw epicMapper.missingReference(epicDTO, e);
+        }
+        projectChangeTracker.changed(projectId(epic));
         return epicMapper.toDTO(epic);
     }
 
@@ -56,33 +69,50 @@ public class EpicService {
     public EpicDTO updateEpic(Long id, EpicDTO epicDTO) {
         Epic existingEpic = epicRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Epic not found with id: " + id));
+        if (epicDTO.getVersion() != null && !epicDTO.getVersion().equals(existingEpic.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Epic.class, id);
+        }
         
+        Long oldProjectId = projectId(existingEpic);
         epicMapper.updateEntityFromDTO(epicDTO, existingEpic);
-        existingEpic = epicRepository.save(existingEpic);
+        try {
+            existingEpic = epicRepository.saveAndFlush(existingEpic);
+        } catch (DataIntegrityViolationException e) {
+            throw epicMapper.missingReference(epicDTO, e);
+        }
+        projectChangeTracker.changed(oldProjectId);
+        projectChangeTracker.changed(projectId(existingEpic));
         return epicMapper.toDTO(existingEpic);
     }
 
     @Transactional
-    public void deleteEpic(Long id) {
+    public void deleteEpic(Long id, Long expectedVersion) {
         Epic epic = epicRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Epic not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(epic.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Epic.class, id);
+        }
+        Long projectId = projectId(epic);
 
         // Remove epic reference from work items
-        List<WorkItem> workItems = workItemRepository.findByEpicId(id);
-        for (WorkItem workItem : workItems) {
-            workItem.setEpic(null);
-            workItemRepository.save(workItem);
-        }
+        workItemRepository.bulkClearEpic(id);
 
         // Remove epic reference from cost assignments
-        List<CostAssignment> costAssignments = costAssignmentRepository.findByEpicId(id);
-        costAssignmentRepository.deleteAll(costAssignments);
+        costAssignmentRepository.bulkDeleteByEpicId(id);
 
         // Remove epic reference from person assignments
-        List<PersonAssignment> personAssignments = personAssignmentRepository.findByEpicId(id);
-        personAssignmentRepository.deleteAll(personAssignments);
+        personAssignmentRepository.bulkDeleteByEpicId(id);
 
         // Finally, delete the epic
-        epicRepository.delete(epic);
+        if (epicRepository.bulkDeleteById(id, epic.getVersion()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Epic.class, id);
+        }
+        costRollupService.epicDeleted(id, projectId);
+        progressCounterService.ownerDeleted(ProgressScope.EPIC, id);
+        projectChangeTracker.changed(projectId);
+    }
+
+    private static Long projectId(Epic epic) {
+        return epic.getProject() != null ? epic.getProject().getId() : null;
     }
 } 
\ No newline at end of file
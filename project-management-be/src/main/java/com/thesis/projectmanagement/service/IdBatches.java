@@ -0,0 +1,32 @@
+package com.thesis.projectmanagement.service;
+
+import com.thesis.projectmanagement.dto.CursorRequest;
+import com.thesis.projectmanagement.dto.InvalidListRequestException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+// Multi-get by id: the ids are de-duplicated, sorted and looked up in IN lists of at most
+// BATCH_SIZE parameters (padded by Hibernate, see in_clause_parameter_padding), so a request
+// for N rows costs ceil(N / BATCH_SIZE) statements. Results come back in id order; unknown ids are skipped.
+final class IdBatches {
+    static final int MAX_IDS = CursorRequest.MAX_LIMIT;
+    static final int BATCH_SIZE = 500;
+
+    private IdBatches() {
+    }
+
+    static <T> List<T> load(Collection<Long> ids, Function<List<Long>, List<T>> loader) {
+        List<Long> distinct = ids.stream().filter(id -> id != null).distinct().sorted().toList();
+        if (distinct.size() > MAX_IDS) {
+            throw new InvalidListRequestException("At most " + MAX_IDS + " ids can be requested at once");
+        }
+        List<T> result = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += BATCH_SIZE) {
+            result.addAll(loader.apply(distinct.subList(from, Math.min(from + BATCH_SIZE, distinct.size()))));
+        }
+        return result;
+    }
+}
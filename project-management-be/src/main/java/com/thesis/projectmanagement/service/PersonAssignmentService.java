@@ -1,15 +1,18 @@
 package com.thesis.projectmanagement.service;
 
+import com.thesis.projectmanagement.dto.CursorRequest;
 import com.thesis.projectmanagement.dto.PersonAssignmentDTO;
+import com.thesis.projectmanagement.dto.ResourceRollupDTO;
 import com.thesis.projectmanagement.mapper.PersonAssignmentMapper;
 import com.thesis.projectmanagement.model.PersonAssignment;
 import com.thesis.projectmanagement.repository.PersonAssignmentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,11 +20,14 @@ import java.util.stream.Collectors;
 public class PersonAssignmentService {
     private final PersonAssignmentRepository personAssignmentRepository;
     private final PersonAssignmentMapper personAssignmentMapper;
+    private final ProjectChangeTracker projectChangeTracker;
 
-    public List<PersonAssignmentDTO> getAllPersonAssignments() {
-        return personAssignmentRepository.findAll().stream()
-                .map(personAssignmentMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<PersonAssignmentDTO> getAllPersonAssignments(CursorRequest cursor) {
+        return personAssignmentRepository.findAllDTOs(cursor.afterId(), cursor.pageable());
+    }
+
+    public List<PersonAssignmentDTO> getPersonAssignmentsByIds(List<Long> ids) {
+        return IdBatches.load(ids, personAssignmentRepository::findDTOsByIdIn);
     }
 
     public PersonAssignmentDTO getPersonAssignment(Long id) {
@@ -30,29 +36,44 @@ public class PersonAssignmentService {
                 .orElseThrow(() -> new IllegalArgumentException("PersonAssignment not found"));
     }
 
-    public List<PersonAssignmentDTO> getPersonAssignmentsByPersonId(Long personId) {
-        return personAssignmentRepository.findByPersonId(personId).stream()
-                .map(personAssignmentMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<PersonAssignmentDTO> getPersonAssignmentsByPersonId(Long personId, CursorRequest cursor) {
+        return personAssignmentRepository.findDTOsByPersonId(personId, cursor.afterId(), cursor.pageable());
     }
 
-    public List<PersonAssignmentDTO> getPersonAssignmentsByEpicId(Long epicId) {
-        return personAssignmentRepository.findByEpicId(epicId).stream()
-                .map(personAssignmentMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<PersonAssignmentDTO> getPersonAssignmentsByEpicId(Long epicId, CursorRequest cursor) {
+        return personAssignmentRepository.findDTOsByEpicId(epicId, cursor.afterId(), cursor.pageable());
     }
 
-    public List<PersonAssignmentDTO> getPersonAssignmentsByWorkItemId(Long workItemId) {
-        return personAssignmentRepository.findByWorkItemId(workItemId).stream()
-                .map(personAssignmentMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<PersonAssignmentDTO> getPersonAssignmentsByWorkItemId(Long workItemId, CursorRequest cursor) {
+        return personAssignmentRepository.findDTOsByWorkItemId(workItemId, cursor.afterId(), cursor.pageable());
+    }
+
+    // Person-by-sprint and person-by-epic hour matrices, aggregated in the database;
+    // a null or empty sprint filter includes every sprint
+    public ResourceRollupDTO getResourceRollup(Long projectId, List<Long> sprintIds) {
+        boolean filtered = sprintIds != null && !sprintIds.isEmpty();
+        return ResourceRollupDTO.builder()
+                .projectId(projectId)
+                .sprintIds(filtered ? sprintIds : null)
+                .bySprint(filtered
+                        ? personAssignmentRepository.sumHoursByPersonAndSprint(projectId, sprintIds)
+                        : personAssignmentRepository.sumHoursByPersonAndSprint(projectId))
+                .byEpic(filtered
+                        ? personAssignmentRepository.sumHoursByPersonAndEpic(projectId, sprintIds)
+                        : personAssignmentRepository.sumHoursByPersonAndEpic(projectId))
+                .build();
     }
 
     @Transactional
     public PersonAssignmentDTO createPersonAssignment(PersonAssignmentDTO personAssignmentDTO) {
         validateMutualExclusivity(personAssignmentDTO);
         PersonAssignment personAssignment = personAssignmentMapper.toEntity(personAssignmentDTO);
-        personAssignment = personAssignmentRepository.save(personAssignment);
+        try {
+            personAssignment = personAssignmentRepository.saveAndFlush(personAssignment);
+        } catch (DataIntegrityViolationException e) {
+            throw personAssignmentMapper.missingReference(personAssignmentDTO, e);
+        }
+        projectChangeTracker.changed(projectId(personAssignment.getId()));
         return personAssignmentMapper.toDTO(personAssignment);
     }
 
@@ -61,18 +82,37 @@ public class PersonAssignmentService {
         validateMutualExclusivity(personAssignmentDTO);
         PersonAssignment existingPersonAssignment = personAssignmentRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("PersonAssignment not found"));
+        if (personAssignmentDTO.getVersion() != null && !personAssignmentDTO.getVersion().equals(existingPersonAssignment.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(PersonAssignment.class, id);
+        }
         
+        Long oldProjectId = projectId(id);
         personAssignmentMapper.updateEntityFromDTO(personAssignmentDTO, existingPersonAssignment);
-        existingPersonAssignment = personAssignmentRepository.save(existingPersonAssignment);
+        try {
+            existingPersonAssignment = personAssignmentRepository.saveAndFlush(existingPersonAssignment);
+        } catch (DataIntegrityViolationException e) {
+            throw personAssignmentMapper.missingReference(personAssignmentDTO, e);
+        }
+        projectChangeTracker.changed(oldProjectId);
+        projectChangeTracker.changed(projectId(id));
         return personAssignmentMapper.toDTO(existingPersonAssignment);
     }
 
     @Transactional
-    public void deletePersonAssignment(Long id) {
-        if (!personAssignmentRepository.existsById(id)) {
-            throw new IllegalArgumentException("PersonAssignment not found");
+    public void deletePersonAssignment(Long id, Long expectedVersion) {
+        PersonAssignment personAssignment = personAssignmentRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("PersonAssignment not found"));
+        if (expectedVersion != null && !expectedVersion.equals(personAssignment.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(PersonAssignment.class, id);
         }
-        personAssignmentRepository.deleteById(id);
+        Long projectId = projectId(id);
+        personAssignmentRepository.delete(personAssignment);
+        projectChangeTracker.changed(projectId);
+    }
+
+    // Through the assigned epic or work item
+    private Long projectId(Long assignmentId) {
+        return personAssignmentRepository.findProjectIdById(assignmentId).orElse(null);
     }
 
     private void validateMutualExclusivity(PersonAssignmentDTO dto) {
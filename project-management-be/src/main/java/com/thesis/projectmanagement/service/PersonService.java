@@ -1,15 +1,19 @@
 package com.thesis.projectmanagement.service;
 
+import com.thesis.projectmanagement.dto.CursorRequest;
+import com.thesis.projectmanagement.dto.FieldSet;
 import com.thesis.projectmanagement.dto.PersonDTO;
 import com.thesis.projectmanagement.mapper.PersonMapper;
 import com.thesis.projectmanagement.model.Person;
 import com.thesis.projectmanagement.repository.PersonRepository;
+import com.thesis.projectmanagement.repository.SparseQueryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -17,11 +21,30 @@ import java.util.stream.Collectors;
 public class PersonService {
     private final PersonRepository personRepository;
     private final PersonMapper personMapper;
+    private final SparseQueryRepository sparseQueryRepository;
+    private final ProjectChangeTracker projectChangeTracker;
 
-    public List<PersonDTO> getAllPersons() {
-        return personRepository.findAll().stream()
-                .map(personMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<PersonDTO> getAllPersons(CursorRequest cursor) {
+        return personRepository.findAllDTOs(cursor.afterId(), cursor.pageable());
+    }
+
+    public List<PersonDTO> getPersonsByIds(List<Long> ids) {
+        return IdBatches.load(ids, personRepository::findDTOsByIdIn);
+    }
+
+    // Sparse variants of the list lookups above (?fields=)
+    public List<Map<String, Object>> getPersonFields(FieldSet fields, CursorRequest cursor) {
+        return sparseQueryRepository.find(PersonRepository.SPARSE_VIEW, fields, null, null, cursor);
+    }
+
+    public List<Map<String, Object>> getPersonFieldsByIds(List<Long> ids, FieldSet fields) {
+        return IdBatches.load(ids, batch -> sparseQueryRepository.find(
+                PersonRepository.SPARSE_VIEW, fields, "p.id in :value", batch,
+                new CursorRequest(null, batch.size())));
+    }
+
+    public List<Map<String, Object>> getPersonFieldsByRole(String role, FieldSet fields, CursorRequest cursor) {
+        return sparseQueryRepository.find(PersonRepository.SPARSE_VIEW, fields, "p.role = :value", role, cursor);
     }
 
     public PersonDTO getPersonById(Long id) {
@@ -30,10 +53,8 @@ public class PersonService {
                 .orElseThrow(() -> new IllegalArgumentException("Person not found with id: " + id));
     }
 
-    public List<PersonDTO> getPersonsByRole(String role) {
-        return personRepository.findByRole(role).stream()
-                .map(personMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<PersonDTO> getPersonsByRole(String role, CursorRequest cursor) {
+        return personRepository.findDTOsByRole(role, cursor.afterId(), cursor.pageable());
     }
 
     public PersonDTO getPersonByEmail(String email) {
@@ -54,22 +75,30 @@ public class PersonService {
     public PersonDTO updatePerson(Long id, PersonDTO personDTO) {
         Person existingPerson = personRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Person not found with id: " + id));
+        if (personDTO.getVersion() != null && !personDTO.getVersion().equals(existingPerson.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Person.class, id);
+        }
         
         if (personDTO.getEmail() != null && !personDTO.getEmail().equals(existingPerson.getEmail())) {
             validateEmail(personDTO.getEmail());
         }
         
         personMapper.updateEntityFromDTO(personDTO, existingPerson);
-        existingPerson = personRepository.save(existingPerson);
+        existingPerson = personRepository.saveAndFlush(existingPerson);
+        // Names show in the resource rollup of every project the person is assigned to
+        projectChangeTracker.changedAll();
         return personMapper.toDTO(existingPerson);
     }
 
     @Transactional
-    public void deletePerson(Long id) {
-        if (!personRepository.existsById(id)) {
-            throw new IllegalArgumentException("Person not found with id: " + id);
+    public void deletePerson(Long id, Long expectedVersion) {
+        Person person = personRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Person not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(person.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Person.class, id);
         }
-        personRepository.deleteById(id);
+        personRepository.delete(person);
+        projectChangeTracker.changedAll();
     }
 
     private void validateEmail(String email) {
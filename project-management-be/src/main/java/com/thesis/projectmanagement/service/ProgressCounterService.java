@@ -0,0 +1,256 @@
+package com.thesis.projectmanagement.service;
+
+import com.thesis.projectmanagement.constants.ProgressScope;
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import com.thesis.projectmanagement.dto.ProgressCountDTO;
+import com.thesis.projectmanagement.dto.ProgressDTO;
+import com.thesis.projectmanagement.model.ProgressCounter;
+import com.thesis.projectmanagement.model.WorkItem;
+import com.thesis.projectmanagement.repository.ProgressCounterRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// Work item and story point counts per status for every epic and sprint, kept in the
+// progress_counters table. WorkItemService reports single-item changes as deltas; the bulk
+// sprint moves recount the sprints they touch. Progress reads are then a few-row lookup.
+@Service
+@Transactional(readOnly = true)
+public class ProgressCounterService {
+    private final ProgressCounterRepository progressCounterRepository;
+    private final ProjectChangeTracker projectChangeTracker;
+    private final TransactionTemplate insertTemplate;
+    private final TransactionTemplate ownerTemplate;
+
+    // What one work item contributes to the counters
+    public record Snapshot(Long epicId, Long sprintId, WorkItemStatus status, int storyPoints) {
+        public static Snapshot of(WorkItem workItem) {
+            return new Snapshot(
+                    workItem.getEpic() != null ? workItem.getEpic().getId() : null,
+                    workItem.getSprint() != null ? workItem.getSprint().getId() : null,
+                    workItem.getStatus(),
+                    workItem.getStoryPoints() != null ? workItem.getStoryPoints() : 0);
+        }
+    }
+
+    private record Key(ProgressScope scope, Long ownerId, WorkItemStatus status) {
+    }
+
+    private record Owner(ProgressScope scope, Long ownerId) {
+    }
+
+    private record Delta(long items, long storyPoints) {
+        Delta plus(Delta other) {
+            return new Delta(items + other.items, storyPoints + other.storyPoints);
+        }
+    }
+
+    public ProgressCounterService(ProgressCounterRepository progressCounterRepository,
+                                  ProjectChangeTracker projectChangeTracker,
+                                  PlatformTransactionManager transactionManager) {
+        this.progressCounterRepository = progressCounterRepository;
+        this.projectChangeTracker = projectChangeTracker;
+        this.insertTemplate = new TransactionTemplate(transactionManager);
+        this.insertTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ownerTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public ProgressDTO getProgress(ProgressScope scope, Long ownerId) {
+        Map<String, Long> items = new LinkedHashMap<>();
+        Map<String, Long> storyPoints = new LinkedHashMap<>();
+        for (WorkItemStatus status : WorkItemStatus.values()) {
+            items.put(status.name(), 0L);
+            storyPoints.put(status.name(), 0L);
+        }
+        for (ProgressCounter counter : progressCounterRepository.findByScopeAndOwnerId(scope, ownerId)) {
+            items.put(counter.getStatus().name(), counter.getItems());
+            storyPoints.put(counter.getStatus().name(), counter.getStoryPoints());
+        }
+
+        long workItemCount = items.values().stream().mapToLong(Long::longValue).sum();
+        long doneCount = items.get(WorkItemStatus.DONE.name());
+        return ProgressDTO.builder()
+                .scope(scope)
+                .ownerId(ownerId)
+                .workItemCount(workItemCount)
+                .doneCount(doneCount)
+                .storyPoints(storyPoints.values().stream().mapToLong(Long::longValue).sum())
+                .doneStoryPoints(storyPoints.get(WorkItemStatus.DONE.name()))
+                .progress(workItemCount == 0 ? 0 : (int) Math.round(doneCount * 100.0 / workItemCount))
+                .itemsByStatus(items)
+                .storyPointsByStatus(storyPoints)
+                .build();
+    }
+
+    // A work item was created, changed or deleted (null before / after)
+    @Transactional
+    public void workItemChanged(Snapshot before, Snapshot after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        Map<Key, Delta> deltas = new LinkedHashMap<>();
+        collect(deltas, before, -1);
+        collect(deltas, after, 1);
+        deltas.forEach((key, delta) -> {
+            if (delta.items() != 0 || delta.storyPoints() != 0) {
+                increment(key, delta);
+            }
+        });
+    }
+
+    // After a bulk update moved items in or out of the sprint
+    @Transactional
+    public void recountSprint(Long sprintId) {
+        progressCounterRepository.deleteByOwner(ProgressScope.SPRINT, sprintId);
+        progressCounterRepository.saveAll(counters(ProgressScope.SPRINT, progressCounterRepository.countBySprintId(sprintId)));
+    }
+
+    // The epic or sprint was deleted after its work items were detached
+    @Transactional
+    public void ownerDeleted(ProgressScope scope, Long ownerId) {
+        progressCounterRepository.deleteByOwner(scope, ownerId);
+    }
+
+    // Runs before the project's epics and sprints are deleted
+    @Transactional
+    public void projectDeleted(Long projectId) {
+        progressCounterRepository.bulkDeleteByProjectId(projectId);
+    }
+
+    // Brings the counters back in line with the work items: at startup (picking up seeded or
+    // imported data) and periodically, to repair drift from writes that bypassed the services.
+    // Each epic and sprint is checked in a short transaction of its own, so writers elsewhere
+    // are never held up, and only differing rows are written. The owner's counters are locked
+    // before its work items are counted: an increment that got in first has committed its work
+    // item by then, and one that comes later waits and adds its delta on top of the corrected
+    // value. A counter row created concurrently makes the insert of the same missing row fail;
+    // that owner is left for the next run.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.progress.reconcile-cron:0 0 * * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcile() {
+        Set<Owner> owners = ownerTemplate.execute(status -> owners());
+        boolean corrected = false;
+        for (Owner owner : owners) {
+            try {
+                corrected |= Boolean.TRUE.equals(ownerTemplate.execute(status -> reconcile(owner)));
+            } catch (DataIntegrityViolationException e) {
+                // Created concurrently
+            }
+        }
+
+        // The epic overviews read these counters; which projects drifted is not tracked
+        if (corrected) {
+            projectChangeTracker.changedAll();
+        }
+    }
+
+    // Every epic and sprint, and the owners of counters left behind by deleted ones
+    private Set<Owner> owners() {
+        Set<Owner> owners = new LinkedHashSet<>();
+        for (ProgressScope scope : ProgressScope.values()) {
+            List<Long> ownerIds = scope == ProgressScope.EPIC
+                    ? progressCounterRepository.findEpicIds()
+                    : progressCounterRepository.findSprintIds();
+            ownerIds.forEach(ownerId -> owners.add(new Owner(scope, ownerId)));
+            progressCounterRepository.findOwnerIds(scope).forEach(ownerId -> owners.add(new Owner(scope, ownerId)));
+        }
+        return owners;
+    }
+
+    // Returns whether any of the owner's counters had to be corrected
+    private boolean reconcile(Owner owner) {
+        List<ProgressCounter> counters = progressCounterRepository.findByOwnerForUpdate(owner.scope(), owner.ownerId());
+        List<ProgressCountDTO> counts = owner.scope() == ProgressScope.EPIC
+                ? progressCounterRepository.countByEpicId(owner.ownerId())
+                : progressCounterRepository.countBySprintId(owner.ownerId());
+        Map<WorkItemStatus, ProgressCountDTO> expected = new EnumMap<>(WorkItemStatus.class);
+        counts.forEach(count -> expected.put(count.getStatus(), count));
+
+        List<ProgressCounter> stale = new ArrayList<>();
+        boolean corrected = false;
+        for (ProgressCounter counter : counters) {
+            ProgressCountDTO count = expected.remove(counter.getStatus());
+            if (count == null) {
+                stale.add(counter);
+            } else if (!count.getItems().equals(counter.getItems()) || !count.getStoryPoints().equals(counter.getStoryPoints())) {
+                counter.setItems(count.getItems());
+                counter.setStoryPoints(count.getStoryPoints());
+                corrected = true;
+            }
+        }
+        progressCounterRepository.deleteAll(stale);
+        progressCounterRepository.saveAll(counters(owner.scope(), List.copyOf(expected.values())));
+        return corrected || !stale.isEmpty() || !expected.isEmpty();
+    }
+
+    private static List<ProgressCounter> counters(ProgressScope scope, List<ProgressCountDTO> counts) {
+        return counts.stream().map(count -> counter(scope, count)).toList();
+    }
+
+    private static ProgressCounter counter(ProgressScope scope, ProgressCountDTO count) {
+        return ProgressCounter.builder()
+                .scope(scope)
+                .ownerId(count.getOwnerId())
+                .status(count.getStatus())
+                .items(count.getItems())
+                .storyPoints(count.getStoryPoints())
+                .build();
+    }
+
+    private void collect(Map<Key, Delta> deltas, Snapshot snapshot, int sign) {
+        if (snapshot == null || snapshot.status() == null) {
+            return;
+        }
+        Delta delta = new Delta(sign, (long) sign * snapshot.storyPoints());
+        if (snapshot.epicId() != null) {
+            deltas.merge(new Key(ProgressScope.EPIC, snapshot.epicId(), snapshot.status()), delta, Delta::plus);
+        }
+        if (snapshot.sprintId() != null) {
+            deltas.merge(new Key(ProgressScope.SPRINT, snapshot.sprintId(), snapshot.status()), delta, Delta::plus);
+        }
+    }
+
+    // Rows are created on their first change. Two transactions can both miss the row, so the
+    // empty row is inserted in a transaction of its own, a duplicate from the other one is
+    // ignored, and the increment is retried against the row that now exists
+    private void increment(Key key, Delta delta) {
+        if (addToCounter(key, delta) == 0) {
+            try {
+                insertTemplate.executeWithoutResult(status -> progressCounterRepository.save(ProgressCounter.builder()
+                        .scope(key.scope())
+                        .ownerId(key.ownerId())
+                        .status(key.status())
+                        .items(0L)
+                        .storyPoints(0L)
+                        .build()));
+            } catch (DataIntegrityViolationException e) {
+                // Created concurrently
+            }
+            if (addToCounter(key, delta) == 0) {
+                throw new IllegalStateException("Progress counter missing for " + key.scope() + " " + key.ownerId());
+            }
+        }
+    }
+
+    private int addToCounter(Key key, Delta delta) {
+        return progressCounterRepository.addToCounter(key.scope(), key.ownerId(), key.status(),
+                delta.items(), delta.storyPoints());
+    }
+}
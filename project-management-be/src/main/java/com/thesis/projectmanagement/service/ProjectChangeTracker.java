@@ -0,0 +1,59 @@
+package com.thesis.projectmanagement.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-memory change sequence per project. The write services report every change to a project's
+// data; the sequence only moves once the transaction has committed, so data read before the
+// commit can never be filed under the new value. It backs the dashboard snapshots and the
+// project ETags. Writes that reach many projects at once (a person rename) move them all.
+// Counters of deleted projects are kept: reset to zero, they could match a stale snapshot again.
+// The sequence lives in this JVM only, so it assumes a single application instance that makes
+// every write through the services. A write on another instance, or a statement run outside the
+// services, does not move it: snapshots and 304s stay stale until the next service write to the
+// project or a restart. Running more than one instance needs the sequence in the database.
+@Service
+public class ProjectChangeTracker {
+    // Sequences restart at zero with the application; the epoch tells the runs apart
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong allProjects = new AtomicLong();
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long epoch() {
+        return epoch;
+    }
+
+    // Both parts only grow, so their sum does too
+    public long version(Long projectId) {
+        AtomicLong version = versions.get(projectId);
+        return allProjects.get() + (version != null ? version.get() : 0);
+    }
+
+    public void changed(Long projectId) {
+        if (projectId != null) {
+            afterCommit(() -> versions.computeIfAbsent(projectId, id -> new AtomicLong()).incrementAndGet());
+        }
+    }
+
+    public void changedAll() {
+        afterCommit(allProjects::incrementAndGet);
+    }
+
+    private static void afterCommit(Runnable increment) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment.run();
+                }
+            });
+        } else {
+            increment.run();
+        }
+    }
+}
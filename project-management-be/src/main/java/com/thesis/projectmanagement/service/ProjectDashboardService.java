@@ -0,0 +1,97 @@
+package com.thesis.projectmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.thesis.projectmanagement.config.ReadRouting;
+import com.thesis.projectmanagement.constants.CostRollupScope;
+import com.thesis.projectmanagement.dto.EpicOverviewDTO;
+import com.thesis.projectmanagement.dto.ProjectDTO;
+import com.thesis.projectmanagement.dto.ProjectDashboardDTO;
+import com.thesis.projectmanagement.repository.PersonAssignmentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// The ProjectDetail dashboard, serialised once per project version and then served from a
+// bounded in-memory cache until a write to the project moves its ProjectChangeTracker version.
+// The version is read before and after the data; a snapshot built while a write committed is
+// served once but not cached. The tracker moves when a write commits on the primary, which a
+// replica may not have applied yet, so snapshots are read there. Like the tracker, the cache
+// assumes a single instance (see ProjectChangeTracker).
+@Service
+public class ProjectDashboardService {
+    private final ProjectService projectService;
+    private final EpicService epicService;
+    private final CostRollupService costRollupService;
+    private final PersonAssignmentRepository personAssignmentRepository;
+    private final ProjectChangeTracker projectChangeTracker;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate snapshotTemplate;
+    private final Cache<Long, Snapshot> snapshots;
+
+    private record Snapshot(long version, byte[] json) {
+    }
+
+    public ProjectDashboardService(ProjectService projectService,
+                                   EpicService epicService,
+                                   CostRollupService costRollupService,
+                                   PersonAssignmentRepository personAssignmentRepository,
+                                   ProjectChangeTracker projectChangeTracker,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.dashboard.cache.max-size:500}") long maxSize) {
+        this.projectService = projectService;
+        this.epicService = epicService;
+        this.costRollupService = costRollupService;
+        this.personAssignmentRepository = personAssignmentRepository;
+        this.projectChangeTracker = projectChangeTracker;
+        this.objectMapper = objectMapper;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setReadOnly(true);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshots = Caffeine.newBuilder().maximumSize(maxSize).build();
+    }
+
+    // JSON bytes of the dashboard; a cache hit runs no query and opens no transaction
+    public byte[] getDashboard(Long projectId) {
+        long version = projectChangeTracker.version(projectId);
+        Snapshot snapshot = snapshots.getIfPresent(projectId);
+        if (snapshot != null && snapshot.version() == version) {
+            return snapshot.json();
+        }
+        ProjectDashboardDTO dashboard = ReadRouting.onPrimary(() -> snapshotTemplate.execute(status -> build(projectId)));
+        Snapshot built = new Snapshot(version, serialize(dashboard));
+        if (projectChangeTracker.version(projectId) == version) {
+            // Two views racing over a write must not put the older snapshot back
+            snapshots.asMap().merge(projectId, built,
+                    (cached, fresh) -> cached.version() > fresh.version() ? cached : fresh);
+        }
+        return built.json();
+    }
+
+    private ProjectDashboardDTO build(Long projectId) {
+        ProjectDTO project = projectService.getProjectById(projectId);
+        List<EpicOverviewDTO> epics = epicService.getEpicOverview(projectId);
+        return ProjectDashboardDTO.builder()
+                .project(project)
+                .epicCount(epics.size())
+                .teamSize(personAssignmentRepository.countPersonsByProjectId(projectId))
+                .estimatedCost(costRollupService.getTotal(CostRollupScope.PROJECT, String.valueOf(projectId)).getTotal())
+                .epics(epics)
+                .build();
+    }
+
+    private byte[] serialize(ProjectDashboardDTO dashboard) {
+        try {
+            return objectMapper.writeValueAsBytes(dashboard);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,16 +1,34 @@
 package com.thesis.projectmanagement.service;
 
 import com.thesis.projectmanagement.constants.ProjectStatus;
+import com.thesis.projectmanagement.dto.CursorRequest;
 import com.thesis.projectmanagement.dto.ProjectDTO;
+import com.thesis.projectmanagement.dto.ProjectTimelineDTO;
+import com.thesis.projectmanagement.dto.SprintDTO;
+import com.thesis.projectmanagement.dto.TimelineEpicDTO;
+import com.thesis.projectmanagement.dto.TimelineRowDTO;
+import com.thesis.projectmanagement.dto.TimelineWorkItemDTO;
 import com.thesis.projectmanagement.mapper.ProjectMapper;
 import com.thesis.projectmanagement.model.Project;
+import com.thesis.projectmanagement.repository.CostAssignmentRepository;
+import com.thesis.projectmanagement.repository.EpicRepository;
+import com.thesis.projectmanagement.repository.PersonAssignmentRepository;
 import com.thesis.projectmanagement.repository.ProjectRepository;
+import com.thesis.projectmanagement.repository.SprintRepository;
+import com.thesis.projectmanagement.repository.WorkItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -18,11 +36,21 @@ import java.util.stream.Collectors;
 public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
+    private final SprintRepository sprintRepository;
+    private final EpicRepository epicRepository;
+    private final WorkItemRepository workItemRepository;
+    private final CostAssignmentRepository costAssignmentRepository;
+    private final PersonAssignmentRepository personAssignmentRepository;
+    private final CostRollupService costRollupService;
+    private final ProgressCounterService progressCounterService;
+    private final ProjectChangeTracker projectChangeTracker;
 
-    public List<ProjectDTO> getAllProjects() {
-        return projectRepository.findAll().stream()
-                .map(projectMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<ProjectDTO> getAllProjects(CursorRequest cursor) {
+        return projectRepository.findAllDTOs(cursor.afterId(), cursor.pageable());
+    }
+
+    public List<ProjectDTO> getProjectsByIds(List<Long> ids) {
+        return IdBatches.load(ids, projectRepository::findDTOsByIdIn);
     }
 
     public ProjectDTO getProjectById(Long id) {
@@ -31,10 +59,56 @@ public class ProjectService {
                 .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + id));
     }
 
-    public List<ProjectDTO> getProjectsByStatus(ProjectStatus status) {
-        return projectRepository.findByStatus(status).stream()
-                .map(projectMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<ProjectDTO> getProjectsByStatus(ProjectStatus status, CursorRequest cursor) {
+        return projectRepository.findDTOsByStatus(status, cursor.afterId(), cursor.pageable());
+    }
+
+    // Gantt data for the timeline view: epics with their sprint-planned work items (one ordered query,
+    // grouped here), the sprints as bands and the date envelope; no sprint filter means all sprints
+    public ProjectTimelineDTO getTimeline(Long projectId, List<Long> sprintIds) {
+        boolean filtered = sprintIds != null && !sprintIds.isEmpty();
+        List<TimelineRowDTO> rows = filtered
+                ? workItemRepository.findTimelineRows(projectId, sprintIds)
+                : workItemRepository.findTimelineRows(projectId);
+
+        Map<Long, TimelineEpicDTO> epics = new LinkedHashMap<>();
+        for (TimelineRowDTO row : rows) {
+            TimelineEpicDTO epic = epics.computeIfAbsent(row.getEpicId(), id -> TimelineEpicDTO.builder()
+                    .id(id)
+                    .title(row.getEpicTitle())
+                    .startDate(row.getEpicStartDate())
+                    .endDate(row.getEpicEndDate())
+                    .workItems(new ArrayList<>())
+                    .build());
+            epic.getWorkItems().add(TimelineWorkItemDTO.builder()
+                    .id(row.getWorkItemId())
+                    .title(row.getTitle())
+                    .status(row.getStatus())
+                    .location(row.getLocation())
+                    .sprintId(row.getSprintId())
+                    .sprintName(row.getSprintName())
+                    .startDate(row.getSprintStartDate() != null ? row.getSprintStartDate() : row.getEpicStartDate())
+                    .endDate(row.getSprintEndDate() != null ? row.getSprintEndDate() : row.getEpicEndDate())
+                    .build());
+        }
+
+        List<SprintDTO> sprints = filtered
+                ? sprintRepository.findTimelineSprints(projectId, sprintIds)
+                : sprintRepository.findTimelineSprints(projectId);
+
+        List<LocalDate> dates = Stream.concat(
+                        epics.values().stream().flatMap(epic -> Stream.of(epic.getStartDate(), epic.getEndDate())),
+                        sprints.stream().flatMap(sprint -> Stream.of(sprint.getStartDate(), sprint.getEndDate())))
+                .filter(Objects::nonNull)
+                .toList();
+
+        return ProjectTimelineDTO.builder()
+                .projectId(projectId)
+                .startDate(dates.stream().min(Comparator.naturalOrder()).orElse(null))
+                .endDate(dates.stream().max(Comparator.naturalOrder()).orElse(null))
+                .sprints(sprints)
+                .epics(new ArrayList<>(epics.values()))
+                .build();
     }
 
     @Transactional
@@ -49,22 +123,43 @@ public class ProjectService {
     public ProjectDTO updateProject(Long id, ProjectDTO projectDTO) {
         Project existingProject = projectRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + id));
+        if (projectDTO.getVersion() != null && !projectDTO.getVersion().equals(existingProject.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Project.class, id);
+        }
         
         if (projectDTO.getTitle() != null && !projectDTO.getTitle().equals(existingProject.getTitle())) {
             validateProjectTitle(projectDTO.getTitle());
         }
         
         projectMapper.updateEntityFromDTO(projectDTO, existingProject);
-        existingProject = projectRepository.save(existingProject);
+        existingProject = projectRepository.saveAndFlush(existingProject);
+        projectChangeTracker.changed(id);
         return projectMapper.toDTO(existingProject);
     }
 
     @Transactional
-    public void deleteProject(Long id) {
-        if (!projectRepository.existsById(id)) {
-            throw new IllegalArgumentException("Project not found with id: " + id);
+    public void deleteProject(Long id, Long expectedVersion) {
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Project not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(project.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Project.class, id);
+        }
+
+        // Cost totals and progress counters go first, while the epics, sprints and work items
+        // they are keyed by still exist
+        costRollupService.projectDeleted(id);
+        progressCounterService.projectDeleted(id);
+
+        // Children first, one statement per table, so the foreign keys hold at every step
+        personAssignmentRepository.bulkDeleteByProjectId(id);
+        costAssignmentRepository.bulkDeleteByProjectId(id);
+        workItemRepository.bulkDeleteByProjectId(id);
+        sprintRepository.bulkDeleteByProjectId(id);
+        epicRepository.bulkDeleteByProjectId(id);
+        if (projectRepository.bulkDeleteById(id, project.getVersion()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Project.class, id);
         }
-        projectRepository.deleteById(id);
+        projectChangeTracker.changed(id);
     }
 
     private void validateProjectTitle(String title) {
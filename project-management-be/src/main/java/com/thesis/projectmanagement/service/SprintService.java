@@ -1,28 +1,43 @@
 package com.thesis.projectmanagement.service;
 
+import com.thesis.projectmanagement.constants.ProgressScope;
 import com.thesis.projectmanagement.constants.SprintStatus;
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import com.thesis.projectmanagement.dto.CursorRequest;
 import com.thesis.projectmanagement.dto.SprintDTO;
 import com.thesis.projectmanagement.mapper.SprintMapper;
 import com.thesis.projectmanagement.model.Sprint;
 import com.thesis.projectmanagement.repository.SprintRepository;
+import com.thesis.projectmanagement.repository.WorkItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SprintService {
+    // Items in these states leave the sprint when it is completed
+    private static final Set<WorkItemStatus> UNFINISHED = EnumSet.of(WorkItemStatus.TODO, WorkItemStatus.IN_PROGRESS);
+
     private final SprintRepository sprintRepository;
     private final SprintMapper sprintMapper;
+    private final WorkItemRepository workItemRepository;
+    private final ProgressCounterService progressCounterService;
+    private final ProjectChangeTracker projectChangeTracker;
 
-    public List<SprintDTO> getAllSprints() {
-        return sprintRepository.findAll().stream()
-                .map(sprintMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<SprintDTO> getAllSprints(CursorRequest cursor) {
+        return sprintRepository.findAllDTOs(cursor.afterId(), cursor.pageable());
+    }
+
+    public List<SprintDTO> getSprintsByIds(List<Long> ids) {
+        return IdBatches.load(ids, sprintRepository::findDTOsByIdIn);
     }
 
     public SprintDTO getSprintById(Long id) {
@@ -31,23 +46,25 @@ public class SprintService {
                 .orElseThrow(() -> new IllegalArgumentException("Sprint not found with id: " + id));
     }
 
-    public List<SprintDTO> getSprintsByProjectId(Long projectId) {
-        return sprintRepository.findByProjectId(projectId).stream()
-                .map(sprintMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<SprintDTO> getSprintsByProjectId(Long projectId, CursorRequest cursor) {
+        return sprintRepository.findDTOsByProjectId(projectId, cursor.afterId(), cursor.pageable());
     }
 
-    public List<SprintDTO> getSprintsByProjectAndStatus(Long projectId, SprintStatus status) {
-        return sprintRepository.findByProjectIdAndStatus(projectId, status).stream()
-                .map(sprintMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<SprintDTO> getSprintsByProjectAndStatus(Long projectId, SprintStatus status, CursorRequest cursor) {
+        return sprintRepository.findDTOsByProjectIdAndStatus(projectId, status, cursor.afterId(), cursor.pageable());
     }
 
     @Transactional
     public SprintDTO createSprint(SprintDTO sprintDTO) {
         Sprint sprint = sprintMapper.toEntity(sprintDTO);
-        sprint = sprintRepository.save(sprint);
+        // Set before the insert, so the returned version is not followed by a second UPDATE
         sprint.setStatus(SprintStatus.NOT_STARTED);
+        try {
+            sprint = sprintRepository.saveAndFlush(sprint);
+        } catch (DataIntegrityViolationException e) {
+            throw sprintMapper.missingReference(sprintDTO, e);
+        }
+        projectChangeTracker.changed(projectId(sprint));
         return sprintMapper.toDTO(sprint);
     }
 
@@ -55,6 +72,9 @@ public class SprintService {
     public SprintDTO updateSprint(Long id, SprintDTO sprintDTO) {
         Sprint existingSprint = sprintRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Sprint not found with id: " + id));
+        if (sprintDTO.getVersion() != null && !sprintDTO.getVersion().equals(existingSprint.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Sprint.class, id);
+        }
         
         // Handle status transitions if status is being updated
         if (sprintDTO.getStatus() != null) {
@@ -67,7 +87,7 @@ public class SprintService {
                         existingSprint.startSprint();
                         break;
                     case COMPLETED:
-                        existingSprint.completeSprint();
+                        complete(existingSprint, null);
                         break;
                     case NOT_STARTED:
                         throw new IllegalStateException("Cannot move sprint back to NOT_STARTED status");
@@ -80,21 +100,37 @@ public class SprintService {
         }
         
         // Update other fields
+        Long oldProjectId = projectId(existingSprint);
         sprintMapper.updateEntityFromDTO(sprintDTO, existingSprint);
-        existingSprint = sprintRepository.save(existingSprint);
+        try {
+            existingSprint = sprintRepository.saveAndFlush(existingSprint);
+        } catch (DataIntegrityViolationException e) {
+            throw sprintMapper.missingReference(sprintDTO, e);
+        }
+        projectChangeTracker.changed(oldProjectId);
+        projectChangeTracker.changed(projectId(existingSprint));
         return sprintMapper.toDTO(existingSprint);
     }
 
     @Transactional
-    public void deleteSprint(Long id) {
+    public void deleteSprint(Long id, Long expectedVersion) {
         Sprint sprint = sprintRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Sprint not found with id: " + id));
-                
+        if (expectedVersion != null && !expectedVersion.equals(sprint.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Sprint.class, id);
+        }
+
         if (sprint.getStatus() != SprintStatus.NOT_STARTED) {
             throw new IllegalStateException("Can only delete sprints that haven't started");
         }
-        
-        sprintRepository.deleteById(id);
+
+        // Planned work items are never moved implicitly; the client moves them out first
+        if (workItemRepository.existsBySprintId(id)) {
+            throw new IllegalStateException("Cannot delete a sprint that still has work items");
+        }
+        sprintRepository.delete(sprint);
+        progressCounterService.ownerDeleted(ProgressScope.SPRINT, id);
+        projectChangeTracker.changed(projectId(sprint));
     }
 
     @Transactional
@@ -103,6 +139,7 @@ public class SprintService {
                 .orElseThrow(() -> new IllegalArgumentException("Sprint not found with id: " + id));
         sprint.startSprint();
         sprint = sprintRepository.save(sprint);
+        projectChangeTracker.changed(projectId(sprint));
         return sprintMapper.toDTO(sprint);
     }
 
@@ -110,9 +147,7 @@ public class SprintService {
     public SprintDTO completeSprint(Long id) {
         Sprint sprint = sprintRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Sprint not found with id: " + id));
-        sprint.completeSprint();
-        sprint = sprintRepository.save(sprint);
-        return sprintMapper.toDTO(sprint);
+        return sprintMapper.toDTO(complete(sprint, null));
     }
 
     @Transactional
@@ -123,8 +158,30 @@ public class SprintService {
         Sprint targetSprint = sprintRepository.findById(targetSprintId)
                 .orElseThrow(() -> new IllegalArgumentException("Target sprint not found with id: " + targetSprintId));
         
-        sprint.completeSprint(targetSprint);
-        sprint = sprintRepository.save(sprint);
-        return sprintMapper.toDTO(sprint);
+        return sprintMapper.toDTO(complete(sprint, targetSprint));
+    }
+
+    // Same rules as Sprint.completeSprint, but the unfinished items move in one update
+    // instead of loading the work item collection. The status is flushed while the sprint is
+    // still managed: the bulk move clears the persistence context, and saving the detached
+    // sprint afterwards would re-select it. The returned sprint is detached but up to date.
+    private Sprint complete(Sprint sprint, Sprint targetSprint) {
+        sprint.validateCompletion(targetSprint);
+        sprint.setStatus(SprintStatus.COMPLETED);
+        sprint = sprintRepository.saveAndFlush(sprint);
+        if (targetSprint == null) {
+            workItemRepository.bulkMoveToBacklog(sprint.getId(), UNFINISHED);
+        } else {
+            workItemRepository.bulkMoveToSprint(sprint.getId(), targetSprint, UNFINISHED);
+            progressCounterService.recountSprint(targetSprint.getId());
+            projectChangeTracker.changed(projectId(targetSprint));
+        }
+        progressCounterService.recountSprint(sprint.getId());
+        projectChangeTracker.changed(projectId(sprint));
+        return sprint;
+    }
+
+    private static Long projectId(Sprint sprint) {
+        return sprint.getProject() != null ? sprint.getProject().getId() : null;
     }
 } 
\ No newline at end of file
@@ -2,16 +2,24 @@ package com.thesis.projectmanagement.service;
 
 import com.thesis.projectmanagement.constants.WorkItemLocation;
 import com.thesis.projectmanagement.constants.WorkItemStatus;
+import com.thesis.projectmanagement.dto.CursorRequest;
+import com.thesis.projectmanagement.dto.FieldSet;
 import com.thesis.projectmanagement.dto.WorkItemDTO;
+import com.thesis.projectmanagement.dto.WorkItemDetailDTO;
 import com.thesis.projectmanagement.mapper.WorkItemMapper;
 import com.thesis.projectmanagement.model.WorkItem;
+import com.thesis.projectmanagement.repository.CostAssignmentRepository;
+import com.thesis.projectmanagement.repository.PersonAssignmentRepository;
+import com.thesis.projectmanagement.repository.SparseQueryRepository;
 import com.thesis.projectmanagement.repository.WorkItemRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -19,11 +27,19 @@ import java.util.stream.Collectors;
 public class WorkItemService {
     private final WorkItemRepository workItemRepository;
     private final WorkItemMapper workItemMapper;
+    private final PersonAssignmentRepository personAssignmentRepository;
+    private final CostAssignmentRepository costAssignmentRepository;
+    private final CostRollupService costRollupService;
+    private final SparseQueryRepository sparseQueryRepository;
+    private final ProgressCounterService progressCounterService;
+    private final ProjectChangeTracker projectChangeTracker;
 
-    public List<WorkItemDTO> getAllWorkItems() {
-        return workItemRepository.findAll().stream()
-                .map(workItemMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<WorkItemDTO> getAllWorkItems(CursorRequest cursor) {
+        return workItemRepository.findAllDTOs(cursor.afterId(), cursor.pageable());
+    }
+
+    public List<WorkItemDTO> getWorkItemsByIds(List<Long> ids) {
+        return IdBatches.load(ids, workItemRepository::findDTOsByIdIn);
     }
 
     public WorkItemDTO getWorkItemById(Long id) {
@@ -32,40 +48,73 @@ public class WorkItemService {
                 .orElseThrow(() -> new IllegalArgumentException("WorkItem not found with id: " + id));
     }
 
-    public List<WorkItemDTO> getWorkItemsByProjectId(Long projectId) {
-        return workItemRepository.findByProjectId(projectId).stream()
-                .map(workItemMapper::toDTO)
-                .collect(Collectors.toList());
+    // The work item plus its person and cost assignments with the person / cost embedded.
+    // Three projections rather than one fetch join: joining both Set-valued assignment
+    // collections would multiply rows and hash the bidirectional entities.
+    public WorkItemDetailDTO getWorkItemDetail(Long id) {
+        WorkItemDTO workItem = workItemRepository.findDTOsByIdIn(List.of(id)).stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("WorkItem not found with id: " + id));
+        return WorkItemDetailDTO.builder()
+                .workItem(workItem)
+                .personAssignments(personAssignmentRepository.findDetailsByWorkItemId(id))
+                .costAssignments(costAssignmentRepository.findDetailsByWorkItemId(id))
+                .build();
     }
 
-    public List<WorkItemDTO> getWorkItemsBySprintId(Long sprintId) {
-        return workItemRepository.findBySprintId(sprintId).stream()
-                .map(workItemMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<WorkItemDTO> getWorkItemsByProjectId(Long projectId, CursorRequest cursor) {
+        return workItemRepository.findDTOsByProjectId(projectId, cursor.afterId(), cursor.pageable());
     }
 
-    public List<WorkItemDTO> getWorkItemsByEpicId(Long epicId) {
-        return workItemRepository.findByEpicId(epicId).stream()
-                .map(workItemMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<WorkItemDTO> getWorkItemsBySprintId(Long sprintId, CursorRequest cursor) {
+        return workItemRepository.findDTOsBySprintId(sprintId, cursor.afterId(), cursor.pageable());
     }
 
-    public List<WorkItemDTO> getWorkItemsByProjectAndLocation(Long projectId, WorkItemLocation location) {
-        return workItemRepository.findByProjectIdAndLocation(projectId, location).stream()
-                .map(workItemMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<WorkItemDTO> getWorkItemsByEpicId(Long epicId, CursorRequest cursor) {
+        return workItemRepository.findDTOsByEpicId(epicId, cursor.afterId(), cursor.pageable());
     }
 
-    public List<WorkItemDTO> getWorkItemsByProjectAndStatus(Long projectId, WorkItemStatus status) {
-        return workItemRepository.findByProjectIdAndStatus(projectId, status).stream()
-                .map(workItemMapper::toDTO)
-                .collect(Collectors.toList());
+    public List<WorkItemDTO> getWorkItemsByProjectAndLocation(Long projectId, WorkItemLocation location, CursorRequest cursor) {
+        return workItemRepository.findDTOsByProjectIdAndLocation(projectId, location, cursor.afterId(), cursor.pageable());
+    }
+
+    public List<WorkItemDTO> getWorkItemsByProjectAndStatus(Long projectId, WorkItemStatus status, CursorRequest cursor) {
+        return workItemRepository.findDTOsByProjectIdAndStatus(projectId, status, cursor.afterId(), cursor.pageable());
+    }
+
+    // Sparse variants of the list lookups above (?fields=)
+    public List<Map<String, Object>> getWorkItemFields(FieldSet fields, CursorRequest cursor) {
+        return sparseQueryRepository.find(WorkItemRepository.SPARSE_VIEW, fields, null, null, cursor);
+    }
+
+    public List<Map<String, Object>> getWorkItemFieldsByIds(List<Long> ids, FieldSet fields) {
+        return IdBatches.load(ids, batch -> sparseQueryRepository.find(
+                WorkItemRepository.SPARSE_VIEW, fields, "w.id in :value", batch,
+                new CursorRequest(null, batch.size())));
+    }
+
+    public List<Map<String, Object>> getWorkItemFieldsByProjectId(Long projectId, FieldSet fields, CursorRequest cursor) {
+        return sparseQueryRepository.find(WorkItemRepository.SPARSE_VIEW, fields, "w.project.id = :value", projectId, cursor);
+    }
+
+    public List<Map<String, Object>> getWorkItemFieldsBySprintId(Long sprintId, FieldSet fields, CursorRequest cursor) {
+        return sparseQueryRepository.find(WorkItemRepository.SPARSE_VIEW, fields, "w.sprint.id = :value", sprintId, cursor);
+    }
+
+    public List<Map<String, Object>> getWorkItemFieldsByEpicId(Long epicId, FieldSet fields, CursorRequest cursor) {
+        return sparseQueryRepository.find(WorkItemRepository.SPARSE_VIEW, fields, "w.epic.id = :value", epicId, cursor);
     }
 
     @Transactional
     public WorkItemDTO createWorkItem(WorkItemDTO workItemDTO) {
         WorkItem workItem = workItemMapper.toEntity(workItemDTO);
-        workItem = workItemRepository.save(workItem);
+        try {
+            workItem = workItemRepository.saveAndFlush(workItem);
+        } catch (DataIntegrityViolationException e) {
+            throw workItemMapper.missingReference(workItemDTO, e);
+        }
+        progressCounterService.workItemChanged(null, ProgressCounterService.Snapshot.of(workItem));
+        projectChangeTracker.changed(workItem.getProject() != null ? workItem.getProject().getId() : null);
         return workItemMapper.toDTO(workItem);
     }
 
@@ -73,17 +122,38 @@ public class WorkItemService {
     public WorkItemDTO updateWorkItem(Long id, WorkItemDTO workItemDTO) {
         WorkItem existingWorkItem = workItemRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("WorkItem not found with id: " + id));
+        if (workItemDTO.getVersion() != null && !workItemDTO.getVersion().equals(existingWorkItem.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(WorkItem.class, id);
+        }
         
+        Long oldEpicId = existingWorkItem.getEpic() != null ? existingWorkItem.getEpic().getId() : null;
+        Long oldProjectId = existingWorkItem.getProject() != null ? existingWorkItem.getProject().getId() : null;
+        ProgressCounterService.Snapshot before = ProgressCounterService.Snapshot.of(existingWorkItem);
         workItemMapper.updateEntityFromDTO(workItemDTO, existingWorkItem);
-        existingWorkItem = workItemRepository.save(existingWorkItem);
+        try {
+            existingWorkItem = workItemRepository.saveAndFlush(existingWorkItem);
+        } catch (DataIntegrityViolationException e) {
+            throw workItemMapper.missingReference(workItemDTO, e);
+        }
+        Long newProjectId = existingWorkItem.getProject() != null ? existingWorkItem.getProject().getId() : null;
+        costRollupService.workItemMoved(id, oldEpicId, oldProjectId,
+                existingWorkItem.getEpic() != null ? existingWorkItem.getEpic().getId() : null,
+                newProjectId);
+        progressCounterService.workItemChanged(before, ProgressCounterService.Snapshot.of(existingWorkItem));
+        projectChangeTracker.changed(oldProjectId);
+        projectChangeTracker.changed(newProjectId);
         return workItemMapper.toDTO(existingWorkItem);
     }
 
     @Transactional
-    public void deleteWorkItem(Long id) {
-        if (!workItemRepository.existsById(id)) {
-            throw new IllegalArgumentException("WorkItem not found with id: " + id);
+    public void deleteWorkItem(Long id, Long expectedVersion) {
+        WorkItem workItem = workItemRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("WorkItem not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(workItem.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(WorkItem.class, id);
         }
-        workItemRepository.deleteById(id);
+        workItemRepository.delete(workItem);
+        progressCounterService.workItemChanged(ProgressCounterService.Snapshot.of(workItem), null);
+        projectChangeTracker.changed(workItem.getProject() != null ? workItem.getProject().getId() : null);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.thesis.projectmanagement.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Routes against two separate in-memory databases, each of which knows its own name, so every
+// assertion sees where a transaction's statements actually ran
+class ReplicaRoutingDataSourceTest {
+    private static final Duration WINDOW = Duration.ofSeconds(2);
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTemplate;
+    private TransactionTemplate writeTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(
+                database("routing-primary"), List.of(database("routing-replica")), WINDOW);
+        router.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(router);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+        writeTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void testReadsGoToTheReplicaAndWritesToThePrimary() {
+        assertEquals("ROUTING-REPLICA", readTemplate.execute(status -> database()));
+        assertEquals("ROUTING-PRIMARY", writeTemplate.execute(status -> database()));
+    }
+
+    @Test
+    void testOnlyTheWritingClientReadsFromThePrimary() {
+        AtomicLong issued = new AtomicLong();
+        ReadRouting writer = new ReadRouting(0L, issued::set);
+        try (ReadRouting.Scope ignored = ReadRouting.attach(writer)) {
+            assertEquals("ROUTING-REPLICA", readTemplate.execute(status -> database()));
+            writeTemplate.execute(status -> database());
+            assertTrue(issued.get() > 0, "The commit time goes back to the client");
+            assertEquals("ROUTING-PRIMARY", readTemplate.execute(status -> database()));
+        }
+
+        // Its next request carries the commit time back
+        try (ReadRouting.Scope ignored = ReadRouting.attach(new ReadRouting(issued.get(), millis -> { }))) {
+            assertEquals("ROUTING-PRIMARY", readTemplate.execute(status -> database()));
+        }
+        try (ReadRouting.Scope ignored = ReadRouting.attach(new ReadRouting(0L, millis -> { }))) {
+            assertEquals("ROUTING-REPLICA", readTemplate.execute(status -> database()));
+        }
+        // Once the window has passed, the writer is back on the replica
+        long expired = issued.get() - WINDOW.toMillis();
+        try (ReadRouting.Scope ignored = ReadRouting.attach(new ReadRouting(expired, millis -> { }))) {
+            assertEquals("ROUTING-REPLICA", readTemplate.execute(status -> database()));
+        }
+    }
+
+    @Test
+    void testRolledBackWriteIssuesNoCommitTime() {
+        AtomicLong issued = new AtomicLong();
+        try (ReadRouting.Scope ignored = ReadRouting.attach(new ReadRouting(0L, issued::set))) {
+            writeTemplate.executeWithoutResult(status -> {
+                database();
+                status.setRollbackOnly();
+            });
+            assertEquals(0L, issued.get());
+            assertEquals("ROUTING-REPLICA", readTemplate.execute(status -> database()));
+        }
+    }
+
+    @Test
+    void testPinnedReadsGoToThePrimary() {
+        assertEquals("ROUTING-PRIMARY", ReadRouting.onPrimary(() -> readTemplate.execute(status -> database())));
+        assertEquals("ROUTING-REPLICA", readTemplate.execute(status -> database()));
+    }
+
+    @Test
+    void testPinnedSnapshotKeepsNestedReadsOnThePrimary() {
+        // A consistent batch: one read-only repeatable-read transaction whose first statement is
+        // an unpinned read, followed by a pinned read that joins the same transaction
+        TransactionTemplate snapshotTemplate = new TransactionTemplate(readTemplate.getTransactionManager());
+        snapshotTemplate.setReadOnly(true);
+        snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        List<String> unpinned = snapshotTemplate.execute(status -> List.of(
+                database(), ReadRouting.onPrimary(() -> readTemplate.execute(inner -> database()))));
+        assertEquals(List.of("ROUTING-REPLICA", "ROUTING-REPLICA"), unpinned,
+                "A pinned read cannot leave the connection its transaction already holds");
+
+        List<String> pinned = ReadRouting.onPrimary(() -> snapshotTemplate.execute(status -> List.of(
+                database(), ReadRouting.onPrimary(() -> readTemplate.execute(inner -> database())))));
+        assertEquals(List.of("ROUTING-PRIMARY", "ROUTING-PRIMARY"), pinned);
+    }
+
+    private String database() {
+        return jdbcTemplate.queryForObject("select database()", String.class);
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
@@ -0,0 +1,62 @@
+package com.thesis.projectmanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thesis.projectmanagement.dto.BatchRequestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Batches the dispatcher refuses are client errors, answered with the reason
+@SpringBootTest
+@ActiveProfiles("test")
+class BatchControllerTest {
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void testTooManyRequestsIsBadRequest() throws Exception {
+        List<String> requests = Collections.nCopies(BatchController.MAX_REQUESTS + 1, "/api/projects");
+        postBatch(requests)
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("at most " + BatchController.MAX_REQUESTS)));
+    }
+
+    @Test
+    void testPathOutsideApiIsBadRequest() throws Exception {
+        postBatch(List.of("/api/projects", "/actuator/health"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("/actuator/health")));
+        postBatch(List.of("/api/batch"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions postBatch(List<String> requests) throws Exception {
+        return mockMvc.perform(post("/api/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BatchRequestDTO.builder().requests(requests).build())));
+    }
+}
@@ -0,0 +1,48 @@
+package com.thesis.projectmanagement.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// If-Match parsing; a header that is not a version is rejected before the write is attempted
+@SpringBootTest
+@ActiveProfiles("test")
+class ETagsTest {
+    @Autowired
+    private WebApplicationContext context;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @Test
+    void testExpectedVersion() {
+        assertEquals(3L, ETags.expectedVersion("\"3\"", 1L));
+        assertEquals(3L, ETags.expectedVersion("W/\"3\"", 1L));
+        assertEquals(1L, ETags.expectedVersion("*", 1L));
+        assertNull(ETags.expectedVersion(null, null));
+        assertThrows(InvalidIfMatchException.class, () -> ETags.expectedVersion("foo", 1L));
+    }
+
+    @Test
+    void testMalformedIfMatchIsBadRequest() throws Exception {
+        mockMvc.perform(delete("/api/costs/0").header(HttpHeaders.IF_MATCH, "foo"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("If-Match")));
+    }
+}
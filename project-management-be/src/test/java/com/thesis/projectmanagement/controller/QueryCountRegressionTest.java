@@ -0,0 +1,575 @@
+package com.thesis.projectmanagement.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thesis.projectmanagement.config.QueryMetrics;
+import com.thesis.projectmanagement.config.QueryMetricsFilter;
+import com.thesis.projectmanagement.constants.ProgressScope;
+import com.thesis.projectmanagement.constants.ProjectStatus;
+import com.thesis.projectmanagement.constants.SprintStatus;
+import com.thesis.projectmanagement.constants.WorkItemLocation;
+import com.thesis.projectmanagement.constants.WorkItemPriority;
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import com.thesis.projectmanagement.constants.WorkItemType;
+import com.thesis.projectmanagement.dto.BatchRequestDTO;
+import com.thesis.projectmanagement.dto.CostAssignmentDTO;
+import com.thesis.projectmanagement.dto.CostDTO;
+import com.thesis.projectmanagement.dto.CursorRequest;
+import com.thesis.projectmanagement.dto.EpicDTO;
+import com.thesis.projectmanagement.dto.PersonAssignmentDTO;
+import com.thesis.projectmanagement.dto.PersonDTO;
+import com.thesis.projectmanagement.dto.ProjectDTO;
+import com.thesis.projectmanagement.dto.SprintDTO;
+import com.thesis.projectmanagement.dto.WorkItemDTO;
+import com.thesis.projectmanagement.model.Cost;
+import com.thesis.projectmanagement.model.CostAssignment;
+import com.thesis.projectmanagement.model.Epic;
+import com.thesis.projectmanagement.model.Person;
+import com.thesis.projectmanagement.model.PersonAssignment;
+import com.thesis.projectmanagement.model.Project;
+import com.thesis.projectmanagement.model.Sprint;
+import com.thesis.projectmanagement.model.WorkItem;
+import com.thesis.projectmanagement.repository.CostAssignmentRepository;
+import com.thesis.projectmanagement.repository.CostRepository;
+import com.thesis.projectmanagement.repository.EpicRepository;
+import com.thesis.projectmanagement.repository.PersonAssignmentRepository;
+import com.thesis.projectmanagement.repository.PersonRepository;
+import com.thesis.projectmanagement.repository.ProjectRepository;
+import com.thesis.projectmanagement.repository.SprintRepository;
+import com.thesis.projectmanagement.repository.WorkItemRepository;
+import com.thesis.projectmanagement.service.ProgressCounterService;
+import com.thesis.projectmanagement.service.ProjectService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Seeds one project of realistic size and holds every endpoint to a statement and row budget,
+// read from the X-Query-Count / X-Query-Rows headers. Budgets leave room for sequence fetches
+// and second-level cache misses, but not for anything that grows with the data.
+// MockMvc is built by hand so the test shares its application context with the other
+// "test" profile tests instead of starting a second one on the same in-memory database.
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryCountRegressionTest {
+    private static final int SPRINTS = 4;
+    private static final int EPICS = 8;
+    private static final int ITEMS_PER_EPIC = 20;
+    private static final int PERSONS = 12;
+    private static final int COSTS = 40;
+    private static final int PAGE = 100;
+
+    @Autowired
+    private WebApplicationContext context;
+    @Autowired
+    private QueryMetricsFilter queryMetricsFilter;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private ProgressCounterService progressCounterService;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private SprintRepository sprintRepository;
+    @Autowired
+    private EpicRepository epicRepository;
+    @Autowired
+    private WorkItemRepository workItemRepository;
+    @Autowired
+    private PersonRepository personRepository;
+    @Autowired
+    private CostRepository costRepository;
+    @Autowired
+    private CostAssignmentRepository costAssignmentRepository;
+    @Autowired
+    private PersonAssignmentRepository personAssignmentRepository;
+
+    private MockMvc mockMvc;
+    private Long projectId;
+    private Long sprintId;
+    private Long epicId;
+    private Long workItemId;
+    private Long personId;
+    private String personEmail;
+    private Long costId;
+    private Long costAssignmentId;
+    private Long personAssignmentId;
+    private final List<Long> personIds = new ArrayList<>();
+    private final List<Long> costIds = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(queryMetricsFilter).build();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Project project = projectRepository.save(Project.builder()
+                    .title("Query budget " + UUID.randomUUID())
+                    .status(ProjectStatus.ACTIVE)
+                    .build());
+            projectId = project.getId();
+
+            List<Sprint> sprints = new ArrayList<>();
+            for (int i = 0; i < SPRINTS; i++) {
+                sprints.add(Sprint.builder()
+                        .name("Sprint " + i)
+                        .status(i == 0 ? SprintStatus.ACTIVE : SprintStatus.NOT_STARTED)
+                        .startDate(LocalDate.now().plusWeeks(2L * i))
+                        .endDate(LocalDate.now().plusWeeks(2L * i + 2))
+                        .project(project)
+                        .build());
+            }
+            sprints = sprintRepository.saveAll(sprints);
+            sprintId = sprints.get(0).getId();
+
+            List<Epic> epics = new ArrayList<>();
+            for (int i = 0; i < EPICS; i++) {
+                epics.add(Epic.builder()
+                        .title("Epic " + i)
+                        .startDate(LocalDate.now())
+                        .endDate(LocalDate.now().plusMonths(2))
+                        .project(project)
+                        .build());
+            }
+            epics = epicRepository.saveAll(epics);
+            epicId = epics.get(0).getId();
+
+            List<WorkItem> workItems = new ArrayList<>();
+            for (int i = 0; i < EPICS * ITEMS_PER_EPIC; i++) {
+                Sprint sprint = i % 2 == 0 ? sprints.get(i % SPRINTS) : null;
+                workItems.add(WorkItem.builder()
+                        .title("Item " + i)
+                        .status(WorkItemStatus.values()[i % WorkItemStatus.values().length])
+                        .priority(WorkItemPriority.MEDIUM)
+                        .type(WorkItemType.TASK)
+                        .storyPoints(3)
+                        .location(sprint != null ? WorkItemLocation.SPRINT : WorkItemLocation.BACKLOG)
+                        .sprint(sprint)
+                        .epic(epics.get(i % EPICS))
+                        .project(project)
+                        .build());
+            }
+            workItems = workItemRepository.saveAll(workItems);
+            workItemId = workItems.get(0).getId();
+
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < PERSONS; i++) {
+                persons.add(Person.builder()
+                        .name("Person " + i)
+                        .email(UUID.randomUUID() + "@example.com")
+                        .role("Developer")
+                        .build());
+            }
+            persons = personRepository.saveAll(persons);
+            persons.forEach(person -> personIds.add(person.getId()));
+            personId = persons.get(0).getId();
+            personEmail = persons.get(0).getEmail();
+
+            List<Cost> costs = new ArrayList<>();
+            for (int i = 0; i < COSTS; i++) {
+                costs.add(Cost.builder().name("Cost " + i).amount(100.0 + i).category("Infrastructure").build());
+            }
+            costs = costRepository.saveAll(costs);
+            costs.forEach(cost -> costIds.add(cost.getId()));
+            costId = costs.get(0).getId();
+
+            List<CostAssignment> costAssignments = new ArrayList<>();
+            for (int i = 0; i < COSTS; i++) {
+                CostAssignment assignment = new CostAssignment();
+                assignment.setCost(costs.get(i));
+                if (i % 2 == 0) {
+                    assignment.setEpic(epics.get(i % EPICS));
+                } else {
+                    assignment.setWorkItem(workItems.get(i));
+                }
+                costAssignments.add(assignment);
+            }
+            costAssignmentId = costAssignmentRepository.saveAll(costAssignments).get(0).getId();
+
+            List<PersonAssignment> personAssignments = new ArrayList<>();
+            for (int i = 0; i < workItems.size(); i++) {
+                PersonAssignment assignment = new PersonAssignment();
+                assignment.setPerson(persons.get(i % PERSONS));
+                assignment.setWorkItem(workItems.get(i));
+                assignment.setHours(4.0);
+                personAssignments.add(assignment);
+            }
+            personAssignmentId = personAssignmentRepository.saveAll(personAssignments).get(0).getId();
+        });
+    }
+
+    @AfterAll
+    void cleanUp() {
+        projectService.deleteProject(projectId, null);
+        transactionTemplate.executeWithoutResult(status -> {
+            personRepository.deleteAllByIdInBatch(personIds);
+            costRepository.deleteAllByIdInBatch(costIds);
+        });
+    }
+
+    @Test
+    void testProjectEndpoints() throws Exception {
+        expectBudget(get("/api/projects?limit=" + PAGE), 1, PAGE);
+        expectBudget(get("/api/projects/" + projectId), 1, 1);
+        expectBudget(get("/api/projects/status/ACTIVE?limit=" + PAGE), 1, PAGE);
+        expectBudget(get("/api/projects/" + projectId + "/epic-overview"), 1, EPICS + 1);
+        expectBudget(get("/api/projects/" + projectId + "/timeline"), 2, EPICS * ITEMS_PER_EPIC / 2 + SPRINTS);
+        expectBudget(get("/api/projects/" + projectId + "/timeline?sprintIds=" + sprintId),
+                2, EPICS * ITEMS_PER_EPIC / SPRINTS + 1);
+        // Built once (project, epic overview, team size, cost total), then served from memory
+        expectBudget(get("/api/projects/" + projectId + "/dashboard"), 4, EPICS + 4);
+        expectBudget(get("/api/projects/" + projectId + "/dashboard"), 0, 0);
+
+        // A matching If-None-Match is answered from the project's change sequence, without a query
+        String eTag = expectBudget(get("/api/projects/" + projectId + "/epic-overview"), 1, EPICS + 1)
+                .getResponse().getHeader(HttpHeaders.ETAG);
+        for (String view : List.of("/api/projects/" + projectId + "/epic-overview",
+                "/api/projects/" + projectId + "/timeline",
+                "/api/projects/" + projectId + "/dashboard",
+                "/api/epics/project/" + projectId,
+                "/api/sprints/project/" + projectId,
+                "/api/work-items/project/" + projectId,
+                "/api/person-assignments/rollup/project/" + projectId)) {
+            MvcResult notModified = mockMvc.perform(get(view).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andReturn();
+            assertEquals("0", notModified.getResponse().getHeader(QueryMetrics.COUNT_HEADER), view);
+        }
+
+        ProjectDTO created = read(expectBudget(post("/api/projects")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(ProjectDTO.builder().title("Budget " + UUID.randomUUID()).status("PLANNING").build())), 4, 3),
+                ProjectDTO.class);
+        String createdTag = mockMvc.perform(get("/api/projects/" + created.getId() + "/epic-overview"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        created.setDescription("Updated");
+        expectBudget(put("/api/projects/" + created.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(created)), 3, 1);
+        // The update moved the project's tag, so the stale one gets a full response
+        MvcResult changed = mockMvc.perform(get("/api/projects/" + created.getId() + "/epic-overview")
+                        .header(HttpHeaders.IF_NONE_MATCH, createdTag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertNotEquals(createdTag, changed.getResponse().getHeader(HttpHeaders.ETAG));
+        expectBudget(delete("/api/projects/" + created.getId()), 9, 1);
+    }
+
+    @Test
+    void testSprintEndpoints() throws Exception {
+        expectBudget(get("/api/sprints?limit=" + PAGE), 1, PAGE);
+        expectBudget(get("/api/sprints/" + sprintId), 1, 1);
+        expectBudget(get("/api/sprints/project/" + projectId), 1, SPRINTS);
+
+        SprintDTO sprint = createSprint("Budget sprint");
+        SprintDTO target = createSprint("Budget target");
+        List<Long> workItemIds = new ArrayList<>();
+        try {
+            for (int i = 0; i < 30; i++) {
+                workItemIds.add(createWorkItem(sprint.getId()).getId());
+            }
+            sprint.setGoal("Updated");
+            expectBudget(put("/api/sprints/" + sprint.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(json(sprint)), 3, 1);
+            expectBudget(post("/api/sprints/" + sprint.getId() + "/start"), 3, 1);
+            // Moving 30 unfinished items is one bulk update, not one per item; both sprints' progress
+            // counters are then recounted with one grouped select each
+            expectBudget(post("/api/sprints/" + sprint.getId() + "/complete/" + target.getId()), 11, 4);
+            // Only a sprint without work items can be deleted; the check is one exists select
+            SprintDTO empty = createSprint("Budget empty");
+            expectBudget(delete("/api/sprints/" + empty.getId()), 4, 2);
+        } finally {
+            // The project budgets count the seeded sprints and items. A completed sprint cannot
+            // be deleted through the API, so the rows go directly.
+            List<Long> sprintIds = List.of(sprint.getId(), target.getId());
+            transactionTemplate.executeWithoutResult(status -> {
+                workItemRepository.deleteAllByIdInBatch(workItemIds);
+                sprintIds.forEach(id -> progressCounterService.ownerDeleted(ProgressScope.SPRINT, id));
+                sprintRepository.deleteAllByIdInBatch(sprintIds);
+            });
+        }
+    }
+
+    @Test
+    void testEpicEndpoints() throws Exception {
+        expectBudget(get("/api/epics?limit=" + PAGE), 1, PAGE);
+        expectBudget(get("/api/epics/" + epicId), 1, 1);
+        expectBudget(get("/api/epics/project/" + projectId), 1, EPICS);
+
+        EpicDTO epic = read(expectBudget(post("/api/epics")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(EpicDTO.builder().title("Budget epic").projectId(projectId).build())), 3, 2),
+                EpicDTO.class);
+        for (int i = 0; i < 10; i++) {
+            WorkItemDTO item = createWorkItem(null);
+            item.setEpicId(epic.getId());
+            mockMvc.perform(put("/api/work-items/" + item.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(json(item))).andExpect(status().isOk());
+        }
+        epic.setDescription("Updated");
+        expectBudget(put("/api/epics/" + epic.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(epic)), 3, 1);
+        // Detaching 10 work items and dropping assignments is a fixed number of bulk statements
+        expectBudget(delete("/api/epics/" + epic.getId()), 12, 4);
+    }
+
+    @Test
+    void testWorkItemEndpoints() throws Exception {
+        expectBudget(get("/api/work-items?limit=" + PAGE), 1, PAGE);
+        expectBudget(get("/api/work-items/" + workItemId), 1, 1);
+        expectBudget(get("/api/work-items/" + workItemId + "/detail"), 3, 3);
+        expectBudget(get("/api/work-items/project/" + projectId + "?limit=" + PAGE), 1, PAGE);
+        // Without ?limit= a list is still one page of the default size, linked to the next one
+        MvcResult unlimited = expectBudget(get("/api/work-items/project/" + projectId), 1, CursorRequest.DEFAULT_LIMIT);
+        assertEquals(CursorRequest.DEFAULT_LIMIT,
+                objectMapper.readTree(unlimited.getResponse().getContentAsString()).size());
+        assertNotNull(unlimited.getResponse().getHeader(HttpHeaders.LINK));
+        mockMvc.perform(get("/api/work-items?limit=" + (CursorRequest.MAX_LIMIT + 1))).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/work-items?fields=unknown")).andExpect(status().isBadRequest());
+        expectBudget(get("/api/work-items/epic/" + epicId), 1, ITEMS_PER_EPIC);
+        expectBudget(get("/api/work-items/sprint/" + sprintId), 1, EPICS * ITEMS_PER_EPIC / SPRINTS);
+        // ?fields= narrows the select list and the JSON alike
+        JsonNode sparse = objectMapper.readTree(expectBudget(
+                get("/api/work-items/project/" + projectId + "?limit=" + PAGE + "&fields=storyPoints,status"), 1, PAGE)
+                .getResponse().getContentAsString());
+        assertEquals(PAGE, sparse.size());
+        assertEquals(List.of("id", "status", "storyPoints"), fieldNames(sparse.get(0)));
+        expectBudget(get("/api/work-items/sprint/" + sprintId + "?fields=storyPoints"), 1, EPICS * ITEMS_PER_EPIC / SPRINTS);
+
+        WorkItemDTO item = createWorkItem(null);
+        item.setEpicId(epicId);
+        item.setSprintId(sprintId);
+        item.setLocation("SPRINT");
+        // References are attached as proxies: no selects for project, sprint or epic. The move reads
+        // the item's cost total and creates the progress counter that does not exist yet, which takes
+        // an update that misses, the insert of an empty row and the update again.
+        expectBudget(put("/api/work-items/" + item.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(item)), 9, 2);
+        expectBudget(delete("/api/work-items/" + item.getId()), 4, 2);
+    }
+
+    @Test
+    void testPersonEndpoints() throws Exception {
+        expectBudget(get("/api/persons?limit=" + PAGE), 1, PAGE);
+        expectBudget(get("/api/persons/" + personId), 1, 1);
+        expectBudget(get("/api/persons?ids=" + ids(personIds)), 1, PERSONS);
+        JsonNode names = objectMapper.readTree(expectBudget(
+                get("/api/persons?fields=name&ids=" + ids(personIds)), 1, PERSONS).getResponse().getContentAsString());
+        assertEquals(PERSONS, names.size());
+        assertEquals(List.of("id", "name"), fieldNames(names.get(0)));
+        expectBudget(get("/api/persons/role/Developer?limit=" + PAGE), 1, PAGE);
+        expectBudget(get("/api/persons/email/" + personEmail), 2, 2);
+
+        PersonDTO person = read(expectBudget(post("/api/persons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(PersonDTO.builder().name("Budget person").email(UUID.randomUUID() + "@example.com").role("QA").build())), 4, 3),
+                PersonDTO.class);
+        person.setRole("Lead");
+        PersonDTO updated = read(expectBudget(put("/api/persons/" + person.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(person)), 3, 1), PersonDTO.class);
+        // A delete against the version read before the update is refused
+        mockMvc.perform(delete("/api/persons/" + person.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"" + person.getVersion() + "\""))
+                .andExpect(status().isConflict());
+        expectBudget(delete("/api/persons/" + person.getId())
+                .header(HttpHeaders.IF_MATCH, "\"" + updated.getVersion() + "\""), 4, 2);
+    }
+
+    @Test
+    void testCostEndpoints() throws Exception {
+        expectBudget(get("/api/costs?limit=" + PAGE), 1, PAGE);
+        expectBudget(get("/api/costs/" + costId), 4, 4);
+        expectBudget(get("/api/costs/category/Infrastructure?limit=" + PAGE), 1, PAGE);
+        expectBudget(get("/api/costs?ids=" + ids(costIds)), 1, COSTS);
+
+        CostDTO cost = createCost();
+        cost.setAmount(250.0);
+        expectBudget(put("/api/costs/" + cost.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(cost)), 7, 5);
+        expectBudget(delete("/api/costs/" + cost.getId()), 7, 5);
+    }
+
+    @Test
+    void testCostAssignmentEndpoints() throws Exception {
+        expectBudget(get("/api/cost-assignments?limit=" + PAGE), 1, PAGE);
+        expectBudget(get("/api/cost-assignments/" + costAssignmentId), 4, 4);
+        expectBudget(get("/api/cost-assignments/cost/" + costId), 1, 1);
+        expectBudget(get("/api/cost-assignments/epic/" + epicId), 1, COSTS);
+        expectBudget(get("/api/cost-assignments/work-item/" + workItemId), 1, 1);
+
+        CostDTO cost = createCost();
+        CostAssignmentDTO assignment = read(expectBudget(post("/api/cost-assignments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(CostAssignmentDTO.builder().costId(cost.getId()).epicId(epicId).build())), 9, 4),
+                CostAssignmentDTO.class);
+        assignment.setEpicId(null);
+        assignment.setWorkItemId(workItemId);
+        expectBudget(put("/api/cost-assignments/" + assignment.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(assignment)), 10, 7);
+        expectBudget(delete("/api/cost-assignments/" + assignment.getId()), 9, 5);
+        costIds.add(cost.getId());
+    }
+
+    @Test
+    void testPersonAssignmentEndpoints() throws Exception {
+        expectBudget(get("/api/person-assignments?limit=" + PAGE), 1, PAGE);
+        expectBudget(get("/api/person-assignments/" + personAssignmentId), 2, 2);
+        expectBudget(get("/api/person-assignments/person/" + personId), 1, EPICS * ITEMS_PER_EPIC / PERSONS + 1);
+        expectBudget(get("/api/person-assignments/epic/" + epicId), 1, 1);
+        expectBudget(get("/api/person-assignments/work-item/" + workItemId), 1, 1);
+        expectBudget(get("/api/person-assignments/rollup/project/" + projectId), 2, PERSONS * (SPRINTS + EPICS));
+        expectBudget(get("/api/person-assignments/rollup/project/" + projectId + "?sprintIds=" + sprintId),
+                2, PERSONS * (1 + EPICS));
+
+        // Writes also look up the assignment's project, whose dashboard version they move
+        PersonAssignmentDTO assignment = read(expectBudget(post("/api/person-assignments")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(PersonAssignmentDTO.builder().personId(personId).epicId(epicId).hours(2.0).build())), 4, 3),
+                PersonAssignmentDTO.class);
+        assignment.setHours(6.0);
+        expectBudget(put("/api/person-assignments/" + assignment.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(assignment)), 6, 5);
+        expectBudget(delete("/api/person-assignments/" + assignment.getId()), 5, 4);
+    }
+
+    @Test
+    void testBatchEndpoint() throws Exception {
+        List<String> requests = List.of(
+                "/api/epics/" + epicId,
+                "/api/work-items/" + workItemId + "/detail",
+                "/api/epics/project/" + projectId,
+                "/api/epics/" + Long.MAX_VALUE);
+        for (boolean consistent : List.of(false, true)) {
+            // The batch costs what its requests cost; the round-trips are what it saves
+            JsonNode responses = objectMapper.readTree(expectBudget(post("/api/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(json(BatchRequestDTO.builder().requests(requests).consistent(consistent).build())),
+                    6, 1 + 3 + EPICS).getResponse().getContentAsString());
+            assertEquals(requests.size(), responses.size());
+            for (int i = 0; i < requests.size(); i++) {
+                assertEquals(requests.get(i), responses.get(i).get("request").asText());
+            }
+            assertEquals(200, responses.get(0).get("status").asInt());
+            assertEquals(epicId.longValue(), responses.get(0).get("body").get("id").asLong());
+            assertEquals(workItemId.longValue(), responses.get(1).get("body").get("workItem").get("id").asLong());
+            assertEquals(EPICS, responses.get(2).get("body").size());
+            // A failed request fails alone
+            assertEquals(500, responses.get(3).get("status").asInt());
+        }
+    }
+
+    @Test
+    void testCacheStatisticsEndpoint() throws Exception {
+        expectBudget(get("/api/cache/statistics"), 0, 0);
+    }
+
+    // The frontend runs on another origin: it can only read the query headers if CORS exposes them
+    @Test
+    void testQueryHeadersAreReadableCrossOrigin() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/projects/" + projectId)
+                        .header(HttpHeaders.ORIGIN, "http://localhost:5173"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String exposed = result.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS);
+        for (String header : List.of(QueryMetrics.COUNT_HEADER, QueryMetrics.ROWS_HEADER, QueryMetrics.SERVER_TIMING_HEADER)) {
+            assertTrue(exposed != null && exposed.contains(header), () -> header + " is not exposed: " + exposed);
+        }
+        assertEquals("*", result.getResponse().getHeader(QueryMetrics.TIMING_ALLOW_ORIGIN_HEADER));
+    }
+
+    private SprintDTO createSprint(String name) throws Exception {
+        return read(expectBudget(post("/api/sprints")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(SprintDTO.builder()
+                        .name(name)
+                        .startDate(LocalDate.now())
+                        .endDate(LocalDate.now().plusWeeks(2))
+                        .projectId(projectId)
+                        .build())), 3, 2), SprintDTO.class);
+    }
+
+    private WorkItemDTO createWorkItem(Long sprintId) throws Exception {
+        return read(expectBudget(post("/api/work-items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(WorkItemDTO.builder()
+                        .title("Budget item")
+                        .status("TODO")
+                        .priority("LOW")
+                        .type("BUG")
+                        .storyPoints(1)
+                        .location(sprintId != null ? "SPRINT" : "BACKLOG")
+                        .sprintId(sprintId)
+                        .projectId(projectId)
+                        .build())), 6, 3), WorkItemDTO.class);
+    }
+
+    private CostDTO createCost() throws Exception {
+        return read(expectBudget(post("/api/costs")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(CostDTO.builder().name("Budget cost").amount(50.0).category("Licenses").build())), 6, 3),
+                CostDTO.class);
+    }
+
+    private MvcResult expectBudget(MockHttpServletRequestBuilder request, long maxStatements, long maxRows) throws Exception {
+        MvcResult result = mockMvc.perform(request).andExpect(status().is2xxSuccessful()).andReturn();
+        String description = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+        long statements = Long.parseLong(result.getResponse().getHeader(QueryMetrics.COUNT_HEADER));
+        long rows = Long.parseLong(result.getResponse().getHeader(QueryMetrics.ROWS_HEADER));
+        assertTrue(statements <= maxStatements,
+                () -> description + " issued " + statements + " statements, budget is " + maxStatements);
+        assertTrue(rows <= maxRows,
+                () -> description + " read " + rows + " rows, budget is " + maxRows);
+        return result;
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private static String ids(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    private <T> T read(MvcResult result, Class<T> type) throws Exception {
+        return objectMapper.readValue(result.getResponse().getContentAsString(), type);
+    }
+}
@@ -133,6 +133,28 @@ class SprintTest {
         assertThrows(IllegalArgumentException.class, () -> sprint.completeSprint(invalidTargetSprint));
     }
 
+    @Test
+    void testValidateCompletionLeavesWorkItemsAlone() {
+        Sprint completedSprint = Sprint.builder()
+                .id(2L)
+                .name("Sprint 2")
+                .status(SprintStatus.COMPLETED)
+                .project(project)
+                .workItems(new ArrayList<>())
+                .build();
+
+        sprint.addWorkItem(workItem);
+        assertThrows(IllegalStateException.class, () -> sprint.validateCompletion(null));
+
+        sprint.startSprint();
+        assertThrows(IllegalArgumentException.class, () -> sprint.validateCompletion(completedSprint));
+        assertDoesNotThrow(() -> sprint.validateCompletion(null));
+
+        assertEquals(SprintStatus.ACTIVE, sprint.getStatus());
+        assertTrue(sprint.getWorkItems().contains(workItem));
+        assertEquals(sprint, workItem.getSprint());
+    }
+
     @Test
     void testAddWorkItem() {
         sprint.addWorkItem(workItem);
@@ -0,0 +1,171 @@
+package com.thesis.projectmanagement.repository;
+
+import com.thesis.projectmanagement.constants.SprintStatus;
+import com.thesis.projectmanagement.constants.WorkItemLocation;
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs each list finder, then asks H2 for the plan of the SQL it issued: the declared index
+// must be the one that serves the where clause. H2 plans do not depend on the bound values,
+// so placeholders of the right type are enough. A filter on only the leading column of a
+// composite index may be served by the index H2 creates for the foreign key instead; those
+// finders just have to avoid a table scan.
+// The capturing inspector makes this a context of its own, so it gets its own database: create-drop
+// on the shared testdb would reset the schema and sequences under the other test contexts.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:indexusage;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+class IndexUsageTest {
+    private static final List<String> statements = new ArrayList<>();
+
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            StatementInspector inspector = sql -> {
+                synchronized (statements) {
+                    statements.add(sql);
+                }
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private WorkItemRepository workItemRepository;
+    @Autowired
+    private SprintRepository sprintRepository;
+    @Autowired
+    private EpicRepository epicRepository;
+    @Autowired
+    private CostRepository costRepository;
+    @Autowired
+    private PersonRepository personRepository;
+    @Autowired
+    private CostAssignmentRepository costAssignmentRepository;
+    @Autowired
+    private PersonAssignmentRepository personAssignmentRepository;
+
+    @BeforeEach
+    void setUp() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    @Test
+    void testLookupFindersUseTheirIndexes() throws SQLException {
+        assertIndexUsed("IDX_COSTS_CATEGORY", () -> costRepository.findByCategory("Hardware"));
+        assertIndexUsed("IDX_PERSONS_ROLE", () -> personRepository.findByRole("Developer"));
+    }
+
+    @Test
+    void testAssignmentFindersUseTheirIndexes() throws SQLException {
+        assertIndexUsed("IDX_COST_ASSIGNMENTS_EPIC", () -> costAssignmentRepository.findByEpicId(1L));
+        assertIndexUsed("IDX_COST_ASSIGNMENTS_WORK_ITEM", () -> costAssignmentRepository.findByWorkItemId(1L));
+        assertIndexUsed("IDX_PERSON_ASSIGNMENTS_PERSON", () -> personAssignmentRepository.findByPersonId(1L));
+        assertIndexUsed("IDX_PERSON_ASSIGNMENTS_EPIC", () -> personAssignmentRepository.findByEpicId(1L));
+        assertIndexUsed("IDX_PERSON_ASSIGNMENTS_WORK_ITEM",
+                () -> personAssignmentRepository.findByWorkItemId(1L));
+    }
+
+    @Test
+    void testCursorFindersUseTheirIndexes() throws SQLException {
+        Pageable page = Pageable.ofSize(20);
+        assertIndexUsed("IDX_WORK_ITEMS_PROJECT_STATUS",
+                () -> workItemRepository.findDTOsByProjectIdAndStatus(1L, WorkItemStatus.TODO, 0L, page));
+        assertIndexUsed("IDX_WORK_ITEMS_PROJECT_LOCATION",
+                () -> workItemRepository.findDTOsByProjectIdAndLocation(1L, WorkItemLocation.BACKLOG, 0L, page));
+        assertIndexLookup(() -> workItemRepository.findDTOsBySprintId(1L, 0L, page));
+        assertIndexLookup(() -> workItemRepository.findDTOsByProjectId(1L, 0L, page));
+        assertIndexUsed("IDX_WORK_ITEMS_EPIC", () -> workItemRepository.findDTOsByEpicId(1L, 0L, page));
+        assertIndexUsed("IDX_SPRINTS_PROJECT_STATUS",
+                () -> sprintRepository.findDTOsByProjectIdAndStatus(1L, SprintStatus.ACTIVE, 0L, page));
+        assertIndexLookup(() -> sprintRepository.findDTOsByProjectId(1L, 0L, page));
+        assertIndexUsed("IDX_EPICS_PROJECT", () -> epicRepository.findDTOsByProjectId(1L, 0L, page));
+        assertIndexUsed("IDX_COSTS_CATEGORY", () -> costRepository.findDTOsByCategory("Hardware", 0L, page));
+        assertIndexUsed("IDX_PERSONS_ROLE", () -> personRepository.findDTOsByRole("Developer", 0L, page));
+        assertIndexUsed("IDX_COST_ASSIGNMENTS_EPIC", () -> costAssignmentRepository.findDTOsByEpicId(1L, 0L, page));
+        assertIndexUsed("IDX_PERSON_ASSIGNMENTS_PERSON",
+                () -> personAssignmentRepository.findDTOsByPersonId(1L, 0L, page));
+    }
+
+    // Every figure on the epic overview is a lookup; the people count goes through the work items' epic index
+    @Test
+    void testEpicOverviewSubqueriesUseIndexes() throws SQLException {
+        String plan = explain(capture(() -> epicRepository.findOverviewsByProjectId(1L)));
+        for (String index : List.of("IDX_EPICS_PROJECT", "IDX_PERSON_ASSIGNMENTS_EPIC", "IDX_WORK_ITEMS_EPIC")) {
+            assertTrue(plan.contains("/* PUBLIC." + index + ":"), "Expected " + index + " in the plan:\n" + plan);
+        }
+        assertFalse(plan.contains(".tableScan"), "Expected no table scan in the plan:\n" + plan);
+    }
+
+    private void assertIndexUsed(String index, Runnable finder) throws SQLException {
+        String plan = explain(capture(finder));
+        assertTrue(plan.contains("/* PUBLIC." + index + ":"), "Expected " + index + " in the plan:\n" + plan);
+    }
+
+    private void assertIndexLookup(Runnable finder) throws SQLException {
+        String plan = explain(capture(finder));
+        assertFalse(plan.contains(".tableScan"), "Expected no table scan in the plan:\n" + plan);
+    }
+
+    // The first statement the finder issued
+    private static String capture(Runnable finder) {
+        synchronized (statements) {
+            statements.clear();
+            finder.run();
+            assertFalse(statements.isEmpty(), "The finder issued no select");
+            return statements.get(0);
+        }
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            ParameterMetaData parameters = explain.getParameterMetaData();
+            for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                bindPlaceholder(explain, i, parameters.getParameterType(i));
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                StringBuilder text = new StringBuilder();
+                while (plan.next()) {
+                    text.append(plan.getString(1)).append('\n');
+                }
+                return text.toString();
+            }
+        }
+    }
+
+    private static void bindPlaceholder(PreparedStatement statement, int index, int type) throws SQLException {
+        switch (type) {
+            case Types.VARCHAR, Types.CHAR, Types.LONGVARCHAR -> statement.setString(index, "x");
+            case Types.TINYINT, Types.SMALLINT -> statement.setShort(index, (short) 0);
+            default -> statement.setLong(index, 1L);
+        }
+    }
+}
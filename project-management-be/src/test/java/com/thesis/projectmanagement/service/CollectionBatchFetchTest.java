@@ -0,0 +1,172 @@
+package com.thesis.projectmanagement.service;
+
+import com.thesis.projectmanagement.constants.ProjectStatus;
+import com.thesis.projectmanagement.constants.SprintStatus;
+import com.thesis.projectmanagement.constants.WorkItemLocation;
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import com.thesis.projectmanagement.model.Epic;
+import com.thesis.projectmanagement.model.Person;
+import com.thesis.projectmanagement.model.PersonAssignment;
+import com.thesis.projectmanagement.model.Project;
+import com.thesis.projectmanagement.model.Sprint;
+import com.thesis.projectmanagement.model.WorkItem;
+import com.thesis.projectmanagement.repository.EpicRepository;
+import com.thesis.projectmanagement.repository.PersonAssignmentRepository;
+import com.thesis.projectmanagement.repository.PersonRepository;
+import com.thesis.projectmanagement.repository.ProjectRepository;
+import com.thesis.projectmanagement.repository.SprintRepository;
+import com.thesis.projectmanagement.repository.WorkItemRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Pins the number of selects needed to walk collections across many owners
+@SpringBootTest
+@ActiveProfiles("test")
+class CollectionBatchFetchTest {
+    private static final int OWNERS = 12;
+    private static final int ITEMS_PER_OWNER = 3;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private SprintRepository sprintRepository;
+    @Autowired
+    private EpicRepository epicRepository;
+    @Autowired
+    private WorkItemRepository workItemRepository;
+    @Autowired
+    private PersonRepository personRepository;
+    @Autowired
+    private PersonAssignmentRepository personAssignmentRepository;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private Long projectId;
+    private List<Long> sprintIds;
+    private List<Long> epicIds;
+    private List<Long> personIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Project project = projectRepository.save(Project.builder()
+                    .title("Batch fetch " + UUID.randomUUID())
+                    .status(ProjectStatus.ACTIVE)
+                    .build());
+            projectId = project.getId();
+
+            List<Sprint> sprints = new ArrayList<>();
+            List<Epic> epics = new ArrayList<>();
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < OWNERS; i++) {
+                sprints.add(Sprint.builder().name("Sprint " + i).status(SprintStatus.NOT_STARTED).project(project).build());
+                epics.add(Epic.builder().title("Epic " + i).project(project).build());
+                persons.add(Person.builder().name("Person " + i).email(UUID.randomUUID() + "@example.com").build());
+            }
+            sprints = sprintRepository.saveAll(sprints);
+            epics = epicRepository.saveAll(epics);
+            persons = personRepository.saveAll(persons);
+            sprintIds = sprints.stream().map(Sprint::getId).toList();
+            epicIds = epics.stream().map(Epic::getId).toList();
+            personIds = persons.stream().map(Person::getId).toList();
+
+            List<WorkItem> workItems = new ArrayList<>();
+            List<PersonAssignment> assignments = new ArrayList<>();
+            for (int i = 0; i < OWNERS; i++) {
+                for (int j = 0; j < ITEMS_PER_OWNER; j++) {
+                    workItems.add(WorkItem.builder()
+                            .title("Item " + i + "-" + j)
+                            .status(WorkItemStatus.TODO)
+                            .location(WorkItemLocation.SPRINT)
+                            .sprint(sprints.get(i))
+                            .epic(epics.get(i))
+                            .project(project)
+                            .build());
+                }
+                PersonAssignment assignment = new PersonAssignment();
+                assignment.setPerson(persons.get(i));
+                assignment.setEpic(epics.get(i));
+                assignment.setHours(8.0);
+                assignments.add(assignment);
+            }
+            workItemRepository.saveAll(workItems);
+            personAssignmentRepository.saveAll(assignments);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectService.deleteProject(projectId, null);
+        transactionTemplate.executeWithoutResult(status -> personRepository.deleteAllByIdInBatch(personIds));
+    }
+
+    @Test
+    void testEpicWorkItemsLoadInOneBatch() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Epic> epics = epicRepository.findAllById(epicIds);
+            assertEquals(OWNERS, epics.size());
+
+            statistics.clear();
+            epics.forEach(epic -> assertEquals(ITEMS_PER_OWNER, epic.getWorkItems().size()));
+            assertEquals(1, statistics.getPrepareStatementCount());
+        });
+    }
+
+    @Test
+    void testSprintWorkItemsLoadInOneBatch() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Sprint> sprints = sprintRepository.findAllById(sprintIds);
+            assertEquals(OWNERS, sprints.size());
+
+            statistics.clear();
+            sprints.forEach(sprint -> assertEquals(ITEMS_PER_OWNER, sprint.getWorkItems().size()));
+            assertEquals(1, statistics.getPrepareStatementCount());
+        });
+    }
+
+    @Test
+    void testPersonAssignmentsLoadInOneBatch() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Person> persons = personRepository.findAllById(personIds);
+            assertEquals(OWNERS, persons.size());
+
+            statistics.clear();
+            persons.forEach(person -> assertEquals(1, person.getAssignments().size()));
+            assertEquals(1, statistics.getPrepareStatementCount());
+        });
+    }
+
+    @Test
+    void testProjectCollectionsLoadOneSelectEach() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Project project = projectRepository.findById(projectId).orElseThrow();
+
+            statistics.clear();
+            assertEquals(OWNERS, project.getSprints().size());
+            assertEquals(OWNERS, project.getEpics().size());
+            assertEquals(OWNERS * ITEMS_PER_OWNER, project.getWorkItems().size());
+            assertEquals(3, statistics.getPrepareStatementCount());
+        });
+    }
+}
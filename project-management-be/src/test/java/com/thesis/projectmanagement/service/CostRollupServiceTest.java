@@ -0,0 +1,192 @@
+package com.thesis.projectmanagement.service;
+
+import com.thesis.projectmanagement.constants.CostRollupScope;
+import com.thesis.projectmanagement.dto.CostAssignmentDTO;
+import com.thesis.projectmanagement.dto.CostDTO;
+import com.thesis.projectmanagement.dto.EpicDTO;
+import com.thesis.projectmanagement.dto.ProjectDTO;
+import com.thesis.projectmanagement.dto.WorkItemDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The incrementally maintained totals must always match a rebuild from the source tables
+@SpringBootTest
+@ActiveProfiles("test")
+class CostRollupServiceTest {
+    @Autowired
+    private CostRollupService costRollupService;
+    @Autowired
+    private CostService costService;
+    @Autowired
+    private CostAssignmentService costAssignmentService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private EpicService epicService;
+    @Autowired
+    private WorkItemService workItemService;
+
+    private String category;
+    private Long projectId;
+    private Long epicId;
+    private Long otherEpicId;
+    private Long workItemId;
+
+    @BeforeEach
+    void setUp() {
+        category = "Rollup " + UUID.randomUUID();
+        projectId = projectService.createProject(ProjectDTO.builder()
+                .title("Rollup " + UUID.randomUUID())
+                .status("ACTIVE")
+                .build()).getId();
+        epicId = epicService.createEpic(EpicDTO.builder().title("Epic").projectId(projectId).build()).getId();
+        otherEpicId = epicService.createEpic(EpicDTO.builder().title("Other epic").projectId(projectId).build()).getId();
+        workItemId = workItemService.createWorkItem(WorkItemDTO.builder()
+                .title("Item")
+                .status("TODO")
+                .priority("MEDIUM")
+                .type("TASK")
+                .location("BACKLOG")
+                .projectId(projectId)
+                .epicId(epicId)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectService.deleteProject(projectId, null);
+    }
+
+    @Test
+    void testTotalsFollowCostAndAssignmentChanges() {
+        CostDTO cost = costService.createCost(CostDTO.builder().name("Licence").amount(100.0).category(category).build());
+        assertTotal(CostRollupScope.CATEGORY, category, 100.0);
+        assertTotal(CostRollupScope.PROJECT, String.valueOf(projectId), 0.0);
+
+        CostAssignmentDTO assignment = costAssignmentService.createCostAssignment(
+                CostAssignmentDTO.builder().costId(cost.getId()).workItemId(workItemId).build());
+        assertTotal(CostRollupScope.WORK_ITEM, String.valueOf(workItemId), 100.0);
+        assertTotal(CostRollupScope.EPIC, String.valueOf(epicId), 100.0);
+        assertTotal(CostRollupScope.PROJECT, String.valueOf(projectId), 100.0);
+
+        cost.setAmount(40.0);
+        costService.updateCost(cost.getId(), cost);
+        assertTotal(CostRollupScope.CATEGORY, category, 40.0);
+        assertTotal(CostRollupScope.EPIC, String.valueOf(epicId), 40.0);
+
+        assignment.setWorkItemId(null);
+        assignment.setEpicId(otherEpicId);
+        costAssignmentService.updateCostAssignment(assignment.getId(), assignment);
+        assertTotal(CostRollupScope.WORK_ITEM, String.valueOf(workItemId), 0.0);
+        assertTotal(CostRollupScope.EPIC, String.valueOf(epicId), 0.0);
+        assertTotal(CostRollupScope.EPIC, String.valueOf(otherEpicId), 40.0);
+        assertTotal(CostRollupScope.PROJECT, String.valueOf(projectId), 40.0);
+
+        costAssignmentService.deleteCostAssignment(assignment.getId(), null);
+        assertTotal(CostRollupScope.PROJECT, String.valueOf(projectId), 0.0);
+
+        costService.deleteCost(cost.getId(), null);
+        assertTotal(CostRollupScope.CATEGORY, category, 0.0);
+    }
+
+    @Test
+    void testWorkItemMoveCarriesItsTotal() {
+        CostDTO cost = costService.createCost(CostDTO.builder().name("Hosting").amount(75.0).category(category).build());
+        CostAssignmentDTO assignment = costAssignmentService.createCostAssignment(
+                CostAssignmentDTO.builder().costId(cost.getId()).workItemId(workItemId).build());
+
+        WorkItemDTO workItem = workItemService.getWorkItemById(workItemId);
+        workItem.setEpicId(otherEpicId);
+        workItemService.updateWorkItem(workItemId, workItem);
+        assertTotal(CostRollupScope.EPIC, String.valueOf(epicId), 0.0);
+        assertTotal(CostRollupScope.EPIC, String.valueOf(otherEpicId), 75.0);
+        assertTotal(CostRollupScope.PROJECT, String.valueOf(projectId), 75.0);
+
+        costRollupService.rebuild();
+        assertTotal(CostRollupScope.EPIC, String.valueOf(otherEpicId), 75.0);
+        assertTotal(CostRollupScope.PROJECT, String.valueOf(projectId), 75.0);
+
+        costAssignmentService.deleteCostAssignment(assignment.getId(), null);
+        costService.deleteCost(cost.getId(), null);
+    }
+
+    // Amounts are rounded to cents one by one; a rebuild must round them the same way, so that the
+    // increments after it land on the total the increments alone would have reached
+    @Test
+    void testRebuildRoundsLikeTheIncrements() {
+        List<CostAssignmentDTO> assignments = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            assignments.add(assignFee());
+        }
+        assertTotal(CostRollupScope.CATEGORY, category, 0.03);
+        assertTotal(CostRollupScope.EPIC, String.valueOf(epicId), 0.03);
+
+        costRollupService.rebuild();
+        assertTotal(CostRollupScope.CATEGORY, category, 0.03);
+        assertTotal(CostRollupScope.WORK_ITEM, String.valueOf(workItemId), 0.03);
+        assertTotal(CostRollupScope.EPIC, String.valueOf(epicId), 0.03);
+        assertTotal(CostRollupScope.PROJECT, String.valueOf(projectId), 0.03);
+
+        assignments.add(assignFee());
+        assertTotal(CostRollupScope.CATEGORY, category, 0.04);
+        assertTotal(CostRollupScope.PROJECT, String.valueOf(projectId), 0.04);
+
+        for (CostAssignmentDTO assignment : assignments) {
+            costAssignmentService.deleteCostAssignment(assignment.getId(), null);
+            costService.deleteCost(assignment.getCostId(), null);
+        }
+    }
+
+    // Every writer finds no row for the new category; none of them may fail or lose its amount
+    @Test
+    void testConcurrentFirstChangesAllCount() throws Exception {
+        int writers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<CostDTO>> created = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            for (int i = 0; i < writers; i++) {
+                created.add(executor.submit(() -> {
+                    start.await();
+                    return costService.createCost(CostDTO.builder().name("Seat").amount(10.0).category(category).build());
+                }));
+            }
+            start.countDown();
+            List<Long> costIds = new ArrayList<>();
+            for (Future<CostDTO> cost : created) {
+                costIds.add(cost.get().getId());
+            }
+            assertTotal(CostRollupScope.CATEGORY, category, writers * 10.0);
+            costIds.forEach(id -> costService.deleteCost(id, null));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Half a cent, which rounds up to a whole one
+    private CostAssignmentDTO assignFee() {
+        CostDTO cost = costService.createCost(CostDTO.builder().name("Fee").amount(0.005).category(category).build());
+        return costAssignmentService.createCostAssignment(
+                CostAssignmentDTO.builder().costId(cost.getId()).workItemId(workItemId).build());
+    }
+
+    private void assertTotal(CostRollupScope scope, String key, double expected) {
+        BigDecimal total = costRollupService.getTotal(scope, key).getTotal();
+        assertEquals(0, BigDecimal.valueOf(expected).compareTo(total), scope + " " + key + " = " + total);
+    }
+}
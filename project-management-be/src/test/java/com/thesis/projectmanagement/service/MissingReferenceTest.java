@@ -0,0 +1,72 @@
+package com.thesis.projectmanagement.service;
+
+import com.thesis.projectmanagement.dto.EpicDTO;
+import com.thesis.projectmanagement.dto.PersonAssignmentDTO;
+import com.thesis.projectmanagement.dto.ProjectDTO;
+import com.thesis.projectmanagement.dto.WorkItemDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A write naming an id that does not exist fails on the foreign key; the caller must still be
+// told which reference was missing
+@SpringBootTest
+@ActiveProfiles("test")
+class MissingReferenceTest {
+    private static final long UNKNOWN_ID = Long.MAX_VALUE;
+
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private EpicService epicService;
+    @Autowired
+    private WorkItemService workItemService;
+    @Autowired
+    private PersonAssignmentService personAssignmentService;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = projectService.createProject(ProjectDTO.builder()
+                .title("References " + UUID.randomUUID())
+                .status("ACTIVE")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectService.deleteProject(projectId, null);
+    }
+
+    @Test
+    void testMissingReferenceIsNamed() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> workItemService.createWorkItem(WorkItemDTO.builder()
+                        .title("Orphan")
+                        .status("TODO")
+                        .priority("MEDIUM")
+                        .type("TASK")
+                        .location("BACKLOG")
+                        .projectId(projectId)
+                        .epicId(UNKNOWN_ID)
+                        .build()));
+        assertEquals("Epic not found with id: " + UNKNOWN_ID, e.getMessage());
+
+        Long epicId = epicService.createEpic(EpicDTO.builder().title("Known").projectId(projectId).build()).getId();
+        e = assertThrows(IllegalArgumentException.class,
+                () -> personAssignmentService.createPersonAssignment(PersonAssignmentDTO.builder()
+                        .personId(UNKNOWN_ID)
+                        .epicId(epicId)
+                        .hours(2.0)
+                        .build()));
+        assertEquals("Person not found with id: " + UNKNOWN_ID, e.getMessage());
+    }
+}
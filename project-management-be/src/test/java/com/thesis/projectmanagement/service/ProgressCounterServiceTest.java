@@ -0,0 +1,202 @@
+package com.thesis.projectmanagement.service;
+
+import com.thesis.projectmanagement.constants.ProgressScope;
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import com.thesis.projectmanagement.dto.EpicDTO;
+import com.thesis.projectmanagement.dto.ProgressDTO;
+import com.thesis.projectmanagement.dto.ProjectDTO;
+import com.thesis.projectmanagement.dto.SprintDTO;
+import com.thesis.projectmanagement.dto.WorkItemDTO;
+import com.thesis.projectmanagement.model.ProgressCounter;
+import com.thesis.projectmanagement.repository.ProgressCounterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The incrementally maintained counters must always match a recount from the work items
+@SpringBootTest
+@ActiveProfiles("test")
+class ProgressCounterServiceTest {
+    @Autowired
+    private ProgressCounterService progressCounterService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private EpicService epicService;
+    @Autowired
+    private SprintService sprintService;
+    @Autowired
+    private WorkItemService workItemService;
+    @Autowired
+    private ProgressCounterRepository progressCounterRepository;
+
+    private Long projectId;
+    private Long epicId;
+    private Long sprintId;
+    private Long targetSprintId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = projectService.createProject(ProjectDTO.builder()
+                .title("Progress " + UUID.randomUUID())
+                .status("ACTIVE")
+                .build()).getId();
+        epicId = epicService.createEpic(EpicDTO.builder().title("Epic").projectId(projectId).build()).getId();
+        sprintId = createSprint("Sprint");
+        targetSprintId = createSprint("Next sprint");
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectService.deleteProject(projectId, null);
+    }
+
+    @Test
+    void testCountersFollowWorkItemChanges() {
+        WorkItemDTO first = createWorkItem(3);
+        WorkItemDTO second = createWorkItem(5);
+        assertProgress(ProgressScope.EPIC, epicId, 2, 0, 8, 0);
+        assertProgress(ProgressScope.SPRINT, sprintId, 2, 0, 8, 0);
+
+        first.setStatus("DONE");
+        first.setStoryPoints(2);
+        workItemService.updateWorkItem(first.getId(), first);
+        assertProgress(ProgressScope.EPIC, epicId, 2, 1, 7, 2);
+        assertEquals(50, progressCounterService.getProgress(ProgressScope.EPIC, epicId).getProgress());
+
+        second = workItemService.getWorkItemById(second.getId());
+        second.setEpicId(null);
+        workItemService.updateWorkItem(second.getId(), second);
+        assertProgress(ProgressScope.EPIC, epicId, 1, 1, 2, 2);
+        assertProgress(ProgressScope.SPRINT, sprintId, 2, 1, 7, 2);
+
+        workItemService.deleteWorkItem(first.getId(), null);
+        assertProgress(ProgressScope.EPIC, epicId, 0, 0, 0, 0);
+        assertProgress(ProgressScope.SPRINT, sprintId, 1, 0, 5, 0);
+    }
+
+    @Test
+    void testSprintCompletionMovesUnfinishedCounts() {
+        WorkItemDTO done = createWorkItem(3);
+        WorkItemDTO unfinished = createWorkItem(5);
+        done.setStatus("DONE");
+        workItemService.updateWorkItem(done.getId(), done);
+
+        sprintService.startSprint(sprintId);
+        sprintService.completeSprint(sprintId, targetSprintId);
+        assertProgress(ProgressScope.SPRINT, sprintId, 1, 1, 3, 3);
+        assertProgress(ProgressScope.SPRINT, targetSprintId, 1, 0, 5, 0);
+
+        progressCounterService.reconcile();
+        assertProgress(ProgressScope.SPRINT, sprintId, 1, 1, 3, 3);
+        assertProgress(ProgressScope.SPRINT, targetSprintId, 1, 0, 5, 0);
+        assertProgress(ProgressScope.EPIC, epicId, 2, 1, 8, 3);
+
+        // The moved item blocks the delete until it is taken out of the sprint
+        assertThrows(IllegalStateException.class, () -> sprintService.deleteSprint(targetSprintId, null));
+        unfinished = workItemService.getWorkItemById(unfinished.getId());
+        unfinished.setSprintId(null);
+        unfinished.setLocation("BACKLOG");
+        workItemService.updateWorkItem(unfinished.getId(), unfinished);
+        sprintService.deleteSprint(targetSprintId, null);
+        assertProgress(ProgressScope.SPRINT, targetSprintId, 0, 0, 0, 0);
+    }
+
+    // Every writer finds no counter row for the new epic and sprint; none may fail or be lost
+    @Test
+    void testConcurrentFirstChangesAllCount() throws Exception {
+        int writers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<WorkItemDTO>> created = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            for (int i = 0; i < writers; i++) {
+                created.add(executor.submit(() -> {
+                    start.await();
+                    return createWorkItem(1);
+                }));
+            }
+            start.countDown();
+            for (Future<WorkItemDTO> workItem : created) {
+                workItem.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertProgress(ProgressScope.EPIC, epicId, writers, 0, writers, 0);
+        assertProgress(ProgressScope.SPRINT, sprintId, writers, 0, writers, 0);
+
+        progressCounterService.reconcile();
+        assertProgress(ProgressScope.EPIC, epicId, writers, 0, writers, 0);
+    }
+
+    // Counters changed behind the services' back are recounted per epic and sprint
+    @Test
+    void testReconcileRepairsDrift() {
+        createWorkItem(3);
+        createWorkItem(5);
+        ProgressCounter drifted = progressCounterRepository.findByScopeAndOwnerId(ProgressScope.EPIC, epicId).get(0);
+        drifted.setItems(7L);
+        drifted.setStoryPoints(1L);
+        progressCounterRepository.save(drifted);
+        progressCounterRepository.save(ProgressCounter.builder()
+                .scope(ProgressScope.SPRINT)
+                .ownerId(targetSprintId)
+                .status(WorkItemStatus.DONE)
+                .items(2L)
+                .storyPoints(4L)
+                .build());
+        assertProgress(ProgressScope.EPIC, epicId, 7, 0, 1, 0);
+
+        progressCounterService.reconcile();
+        assertProgress(ProgressScope.EPIC, epicId, 2, 0, 8, 0);
+        assertProgress(ProgressScope.SPRINT, sprintId, 2, 0, 8, 0);
+        assertProgress(ProgressScope.SPRINT, targetSprintId, 0, 0, 0, 0);
+    }
+
+    private Long createSprint(String name) {
+        return sprintService.createSprint(SprintDTO.builder()
+                .name(name)
+                .startDate(LocalDate.now())
+                .endDate(LocalDate.now().plusWeeks(2))
+                .projectId(projectId)
+                .build()).getId();
+    }
+
+    private WorkItemDTO createWorkItem(int storyPoints) {
+        return workItemService.createWorkItem(WorkItemDTO.builder()
+                .title("Item")
+                .status("TODO")
+                .priority("MEDIUM")
+                .type("TASK")
+                .location("SPRINT")
+                .storyPoints(storyPoints)
+                .projectId(projectId)
+                .epicId(epicId)
+                .sprintId(sprintId)
+                .build());
+    }
+
+    private void assertProgress(ProgressScope scope, Long ownerId, long items, long done, long points, long donePoints) {
+        ProgressDTO progress = progressCounterService.getProgress(scope, ownerId);
+        String label = scope + " " + ownerId;
+        assertEquals(items, progress.getWorkItemCount(), label + " items");
+        assertEquals(done, progress.getDoneCount(), label + " done");
+        assertEquals(points, progress.getStoryPoints(), label + " story points");
+        assertEquals(donePoints, progress.getDoneStoryPoints(), label + " done story points");
+    }
+}
@@ -0,0 +1,114 @@
+package com.thesis.projectmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.thesis.projectmanagement.dto.EpicDTO;
+import com.thesis.projectmanagement.dto.PersonAssignmentDTO;
+import com.thesis.projectmanagement.dto.PersonDTO;
+import com.thesis.projectmanagement.dto.ProjectDTO;
+import com.thesis.projectmanagement.dto.ProjectDashboardDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// A cached dashboard must be served until, and only until, a write to its project commits
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectDashboardServiceTest {
+    @Autowired
+    private ProjectDashboardService projectDashboardService;
+    @Autowired
+    private ProjectService projectService;
+    @Autowired
+    private EpicService epicService;
+    @Autowired
+    private PersonService personService;
+    @Autowired
+    private PersonAssignmentService personAssignmentService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long projectId;
+    private Long personId;
+
+    @BeforeEach
+    void setUp() {
+        projectId = projectService.createProject(ProjectDTO.builder()
+                .title("Dashboard " + UUID.randomUUID())
+                .status("ACTIVE")
+                .build()).getId();
+        personId = personService.createPerson(PersonDTO.builder()
+                .name("Dashboard person")
+                .email("dashboard-" + UUID.randomUUID() + "@example.com")
+                .role("Developer")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectService.deleteProject(projectId, null);
+        personService.deletePerson(personId, null);
+    }
+
+    @Test
+    void testSnapshotIsServedUntilTheProjectChanges() throws Exception {
+        Long epicId = epicService.createEpic(EpicDTO.builder().title("First").projectId(projectId).build()).getId();
+        byte[] first = projectDashboardService.getDashboard(projectId);
+        assertSame(first, projectDashboardService.getDashboard(projectId));
+        assertEquals(1, read(first).getEpicCount());
+
+        epicService.createEpic(EpicDTO.builder().title("Second").projectId(projectId).build());
+        byte[] second = projectDashboardService.getDashboard(projectId);
+        assertNotSame(first, second);
+        assertEquals(2, read(second).getEpicCount());
+        assertEquals(0, read(second).getTeamSize());
+
+        personAssignmentService.createPersonAssignment(PersonAssignmentDTO.builder()
+                .personId(personId)
+                .epicId(epicId)
+                .hours(4.0)
+                .build());
+        ProjectDashboardDTO dashboard = read(projectDashboardService.getDashboard(projectId));
+        assertEquals(1, dashboard.getTeamSize());
+        assertEquals(1, dashboard.getEpics().stream().filter(epic -> epic.getId().equals(epicId)).findFirst()
+                .orElseThrow().getAssignedPeople());
+    }
+
+    @Test
+    void testWritesToOtherProjectsKeepTheSnapshot() {
+        byte[] first = projectDashboardService.getDashboard(projectId);
+        Long otherProjectId = projectService.createProject(ProjectDTO.builder()
+                .title("Other " + UUID.randomUUID())
+                .status("ACTIVE")
+                .build()).getId();
+        try {
+            epicService.createEpic(EpicDTO.builder().title("Elsewhere").projectId(otherProjectId).build());
+            assertSame(first, projectDashboardService.getDashboard(projectId));
+        } finally {
+            projectService.deleteProject(otherProjectId, null);
+        }
+    }
+
+    // Person writes reach every project they are assigned to, so they move all snapshots, deletes included
+    @Test
+    void testPersonDeleteReplacesTheSnapshot() {
+        Long otherPersonId = personService.createPerson(PersonDTO.builder()
+                .name("Leaving")
+                .email("leaving-" + UUID.randomUUID() + "@example.com")
+                .role("Developer")
+                .build()).getId();
+        byte[] first = projectDashboardService.getDashboard(projectId);
+        personService.deletePerson(otherPersonId, null);
+        assertNotSame(first, projectDashboardService.getDashboard(projectId));
+    }
+
+    private ProjectDashboardDTO read(byte[] json) throws Exception {
+        return objectMapper.readValue(json, ProjectDashboardDTO.class);
+    }
+}
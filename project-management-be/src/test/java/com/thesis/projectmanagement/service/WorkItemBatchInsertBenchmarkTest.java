@@ -0,0 +1,106 @@
+package com.thesis.projectmanagement.service;
+
+import com.thesis.projectmanagement.constants.ProjectStatus;
+import com.thesis.projectmanagement.constants.WorkItemLocation;
+import com.thesis.projectmanagement.constants.WorkItemPriority;
+import com.thesis.projectmanagement.constants.WorkItemStatus;
+import com.thesis.projectmanagement.constants.WorkItemType;
+import com.thesis.projectmanagement.model.Project;
+import com.thesis.projectmanagement.model.WorkItem;
+import com.thesis.projectmanagement.repository.ProjectRepository;
+import com.thesis.projectmanagement.repository.WorkItemRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Insert throughput for 100k work items with their pooled sequence ids, one JDBC round-trip per row
+// against batches of 50. Both runs use the sequence; it does not compare against IDENTITY ids.
+// Slow, so only run on request:
+// mvn test -Dtest=WorkItemBatchInsertBenchmarkTest -Dbenchmark=true
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Slf4j
+class WorkItemBatchInsertBenchmarkTest {
+    private static final int WORK_ITEMS = 100_000;
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private WorkItemRepository workItemRepository;
+
+    private Long projectId;
+    private Long projectVersion;
+
+    @BeforeEach
+    void setUp() {
+        Project project = projectRepository.save(Project.builder()
+                .title("Benchmark " + UUID.randomUUID())
+                .status(ProjectStatus.ACTIVE)
+                .build());
+        projectId = project.getId();
+        projectVersion = project.getVersion();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            workItemRepository.bulkDeleteByProjectId(projectId);
+            projectRepository.bulkDeleteById(projectId, projectVersion);
+        });
+    }
+
+    @Test
+    void testBatchedInsertThroughput() {
+        // Warm-up, so neither run pays for class loading and JIT
+        insert(10_000, 50);
+        long unbatched = insert(WORK_ITEMS, 1);
+        long batched = insert(WORK_ITEMS, 50);
+
+        log.info("{} work items: unbatched {} ms ({} rows/s), batch size 50 {} ms ({} rows/s)",
+                WORK_ITEMS, unbatched, Math.round(WORK_ITEMS * 1000.0 / unbatched),
+                batched, Math.round(WORK_ITEMS * 1000.0 / batched));
+        assertTrue(batched < unbatched, "Batched inserts should be faster than one round-trip per row");
+    }
+
+    // Milliseconds to persist the work items in one transaction, flushing and clearing periodically
+    private long insert(int count, int batchSize) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            for (int i = 0; i < count; i++) {
+                entityManager.persist(WorkItem.builder()
+                        .title("Item " + i)
+                        .status(WorkItemStatus.TODO)
+                        .priority(WorkItemPriority.MEDIUM)
+                        .type(WorkItemType.TASK)
+                        .location(WorkItemLocation.BACKLOG)
+                        .storyPoints(3)
+                        .project(entityManager.getReference(Project.class, projectId))
+                        .build());
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -6,6 +6,7 @@ import { workItemService } from '@/services/workItemService';
 import { epicService } from '@/services/epicService';
 import { personAssignmentService } from '@/services/personAssignmentService';
 import { costAssignmentService } from '@/services/costAssignmentService';
+import { batchService } from '@/services/batchService';
 import EditWorkItemDialog from '@/features/shared/EditWorkItemDialog';
 import WorkItemDetailCard from '@/features/epic/components/WorkItemDetailCard';
 import WorkItemDetailDialog from '@/features/epic/components/WorkItemDetailDialog';
@@ -23,22 +24,26 @@ const EpicSummaryView = () => {
   const [dialogOpen, setDialogOpen] = useState(false);
   const [editingWorkItem, setEditingWorkItem] = useState<WorkItem | null>(null);
 
-  const fetchWorkItemDetails = async (workItemId: number) => {
+  const fetchWorkItemDetails = async (workItemIds: number[]) => {
+    if (workItemIds.length === 0) return;
     try {
-      const [personAssignments, costAssignments] = await Promise.all([
-        personAssignmentService.getByWorkItemId(workItemId),
-        costAssignmentService.getByWorkItemId(workItemId)
-      ]);
-
-      setWorkItemAssignees(prev => ({
-        ...prev,
-        [workItemId]: personAssignments.data
-      }));
-
-      setWorkItemCosts(prev => ({
-        ...prev,
-        [workItemId]: costAssignments.data
-      }));
+      // All work item details in one round-trip; person and cost come embedded in the assignments
+      const { data: responses } = await batchService.get(
+        workItemIds.map(id => `/api/work-items/${id}/detail`)
+      );
+      const assignees: Record<number, PersonAssignment[]> = {};
+      const costs: Record<number, CostAssignment[]> = {};
+      responses.forEach((response, index) => {
+        if (response.status !== 200) {
+          console.error('Error fetching work item details:', response.request, response.body);
+          return;
+        }
+        assignees[workItemIds[index]] = response.body.personAssignments;
+        costs[workItemIds[index]] = response.body.costAssignments;
+      });
+
+      setWorkItemAssignees(prev => ({ ...prev, ...assignees }));
+      setWorkItemCosts(prev => ({ ...prev, ...costs }));
     } catch (error) {
       console.error('Error fetching work item details:', error);
     }
@@ -59,9 +64,7 @@ const EpicSummaryView = () => {
         setWorkItems(workItemsResponse.data);
 
         // Fetch assignments for all work items
-        await Promise.all(
-          workItemsResponse.data.map(item => fetchWorkItemDetails(item.id))
-        );
+        await fetchWorkItemDetails(workItemsResponse.data.map((item: WorkItem) => item.id));
       } catch (error) {
         console.error('Error fetching epic data:', error);
       } finally {
@@ -126,9 +129,7 @@ const EpicSummaryView = () => {
     try {
       const workItemsResponse = await workItemService.getByEpicId(Number(epicId));
       setWorkItems(workItemsResponse.data);
-      await Promise.all(
-        workItemsResponse.data.map(item => fetchWorkItemDetails(item.id))
-      );
+      await fetchWorkItemDetails(workItemsResponse.data.map((item: WorkItem) => item.id));
       setEditingWorkItem(null);
       setDialogOpen(false);
     } catch (error) {
@@ -176,7 +177,7 @@ const EpicSummaryView = () => {
                   workItem={item}
                   personAssignments={workItemAssignees[item.id] || []}
                   costAssignments={workItemCosts[item.id] || []}
-                  onAssignmentChange={() => fetchWorkItemDetails(item.id)}
+                  onAssignmentChange={() => fetchWorkItemDetails([item.id])}
                   onClick={() => handleWorkItemClick(item.id)}
                 />
               ))}
@@ -191,7 +192,7 @@ const EpicSummaryView = () => {
         onOpenChange={setDialogOpen}
         onEdit={handleEditClick}
         onDelete={handleDeleteWorkItem}
-        onAssignmentChange={() => selectedItem && fetchWorkItemDetails(selectedItem.id)}
+        onAssignmentChange={() => selectedItem && fetchWorkItemDetails([selectedItem.id])}
       />
 
       {editingWorkItem && (
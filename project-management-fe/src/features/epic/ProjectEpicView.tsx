@@ -3,9 +3,6 @@ import { Button } from '@/components/ui/button.tsx';
 import { useNavigate, useParams } from 'react-router-dom';
 import { Plus } from 'lucide-react';
 import { epicService } from '@/services/epicService.ts';
-import { workItemService } from '@/services/workItemService.ts';
-import { personAssignmentService } from '@/services/personAssignmentService.ts';
-import { costAssignmentService } from '@/services/costAssignmentService.ts';
 import EditEpicDialog from './components/EditEpicDialog.tsx';
 import EpicCard from './components/EpicCard.tsx';
 import CreateWorkItemDialog from '@/features/shared/CreateWorkItemDialog';
@@ -17,12 +14,6 @@ interface EpicViewProps {
   projectId: number;
 }
 
-const calculateProgress = (workItems: any[]) => {
-  if (workItems.length === 0) return 0;
-  const completedItems = workItems.filter(item => item.status === 'DONE').length;
-  return Math.round((completedItems / workItems.length) * 100);
-};
-
 const EpicView: React.FC<EpicViewProps> = ({ projectId }) => {
   const navigate = useNavigate();
   const { projectId: paramProjectId } = useParams();
@@ -37,73 +28,8 @@ const EpicView: React.FC<EpicViewProps> = ({ projectId }) => {
     const fetchData = async () => {
       setLoading(true);
       try {
-        const { data: epicsData } = await epicService.getByProjectId(projectId);
-        const epicStats = await Promise.all(
-          epicsData.map(async (epic: any) => {
-            const [workItemsRes, epicPersonAssignmentsRes, epicCostAssignmentsRes] = await Promise.all([
-              workItemService.getByEpicId(epic.id),
-              personAssignmentService.getByEpicId(epic.id),
-              costAssignmentService.getByEpicId(epic.id)
-            ]);
-
-            const workItems = workItemsRes.data;
-            const personAssignments = epicPersonAssignmentsRes.data;
-            const costAssignments = epicCostAssignmentsRes.data;
-
-            // Get work item person assignments
-            const workItemPersonAssignments = await Promise.all(
-              workItems.map(workItem => personAssignmentService.getByWorkItemId(workItem.id))
-            );
-
-            // Get all unique person IDs from both epic and work item assignments
-            const uniquePersonIds = new Set<number>();
-            
-            // Add epic-level person IDs
-            personAssignments.forEach(pa => uniquePersonIds.add(pa.personId));
-            
-            // Add work item-level person IDs
-            workItemPersonAssignments.forEach(res => {
-              res.data.forEach(pa => uniquePersonIds.add(pa.personId));
-            });
-
-            const assignedPeople = uniquePersonIds.size;
-            
-            // Calculate progress based on work items
-            const progress = calculateProgress(workItems);
-            
-            // Get epic-level cost assignments
-            const epicCostIds = costAssignments.map((ca: any) => ca.costId);
-            
-            // Get work item level cost assignments
-            const workItemCostAssignments = await Promise.all(
-              workItems.map((workItem: any) => costAssignmentService.getByWorkItemId(workItem.id))
-            );
-            const workItemCostIds = workItemCostAssignments.flatMap((res: any) => 
-              res.data.map((ca: any) => ca.costId)
-            );
-
-            // Combine all cost IDs and remove duplicates
-            const allCostIds = [...new Set([...epicCostIds, ...workItemCostIds])];
-
-            let totalCost = 0;
-            if (allCostIds.length > 0) {
-              const costResArr = await Promise.all(
-                allCostIds.map((costId: number) => 
-                  import('@/services/costService.ts').then(m => m.costService.getById(costId))
-                )
-              );
-              totalCost = costResArr.reduce((sum: number, res: any) => sum + (res.data.amount || 0), 0);
-            }
-
-            return {
-              ...epic,
-              workItemCount: workItems.length,
-              assignedPeople,
-              totalCost,
-              progress
-            };
-          })
-        );
+        // Work item counts, progress, assigned people and total cost come precomputed per epic
+        const { data: epicStats } = await epicService.getOverviewByProjectId(projectId);
         setEpics(epicStats);
       } catch (err) {
         setEpics([]);
@@ -129,73 +55,7 @@ const EpicView: React.FC<EpicViewProps> = ({ projectId }) => {
   const handleEditSuccess = async (updatedEpic: any) => {
     setEditingEpic(null);
     // Refresh the epics list with all calculated statistics
-    const { data: epicsData } = await epicService.getByProjectId(projectId);
-    const epicStats = await Promise.all(
-      epicsData.map(async (epic: any) => {
-        const [workItemsRes, epicPersonAssignmentsRes, epicCostAssignmentsRes] = await Promise.all([
-          workItemService.getByEpicId(epic.id),
-          personAssignmentService.getByEpicId(epic.id),
-          costAssignmentService.getByEpicId(epic.id)
-        ]);
-
-        const workItems = workItemsRes.data;
-        const personAssignments = epicPersonAssignmentsRes.data;
-        const costAssignments = epicCostAssignmentsRes.data;
-
-        // Get work item person assignments
-        const workItemPersonAssignments = await Promise.all(
-          workItems.map(workItem => personAssignmentService.getByWorkItemId(workItem.id))
-        );
-
-        // Get all unique person IDs from both epic and work item assignments
-        const uniquePersonIds = new Set<number>();
-        
-        // Add epic-level person IDs
-        personAssignments.forEach(pa => uniquePersonIds.add(pa.personId));
-        
-        // Add work item-level person IDs
-        workItemPersonAssignments.forEach(res => {
-          res.data.forEach(pa => uniquePersonIds.add(pa.personId));
-        });
-
-        const assignedPeople = uniquePersonIds.size;
-        
-        // Calculate progress based on work items
-        const progress = calculateProgress(workItems);
-        
-        // Get epic-level cost assignments
-        const epicCostIds = costAssignments.map((ca: any) => ca.costId);
-        
-        // Get work item level cost assignments
-        const workItemCostAssignments = await Promise.all(
-          workItems.map((workItem: any) => costAssignmentService.getByWorkItemId(workItem.id))
-        );
-        const workItemCostIds = workItemCostAssignments.flatMap((res: any) => 
-          res.data.map((ca: any) => ca.costId)
-        );
-
-        // Combine all cost IDs and remove duplicates
-        const allCostIds = [...new Set([...epicCostIds, ...workItemCostIds])];
-
-        let totalCost = 0;
-        if (allCostIds.length > 0) {
-          const costResArr = await Promise.all(
-            allCostIds.map((costId: number) => 
-              import('@/services/costService').then(m => m.costService.getById(costId))
-            )
-          );
-          totalCost = costResArr.reduce((sum: number, res: any) => sum + (res.data.amount || 0), 0);
-        }
-
-        return {
-          ...epic,
-          workItemCount: workItems.length,
-          assignedPeople,
-          totalCost,
-          progress
-        };
-      })
-    );
+    const { data: epicStats } = await epicService.getOverviewByProjectId(projectId);
     setEpics(epicStats);
   };
 
@@ -216,67 +76,7 @@ const EpicView: React.FC<EpicViewProps> = ({ projectId }) => {
   const handleWorkItemEditSuccess = async () => {
     setEditingWorkItem(null);
     // Refresh the epics list
-    const { data: epicsData } = await epicService.getByProjectId(projectId);
-    const epicStats = await Promise.all(
-      epicsData.map(async (epic: any) => {
-        const [workItemsRes, epicPersonAssignmentsRes, epicCostAssignmentsRes] = await Promise.all([
-          workItemService.getByEpicId(epic.id),
-          personAssignmentService.getByEpicId(epic.id),
-          costAssignmentService.getByEpicId(epic.id)
-        ]);
-
-        const workItems = workItemsRes.data;
-        const personAssignments = epicPersonAssignmentsRes.data;
-        const costAssignments = epicCostAssignmentsRes.data;
-
-        // Get work item person assignments
-        const workItemPersonAssignments = await Promise.all(
-          workItems.map(workItem => personAssignmentService.getByWorkItemId(workItem.id))
-        );
-
-        // Get all unique person IDs from both epic and work item assignments
-        const uniquePersonIds = new Set<number>();
-        
-        // Add epic-level person IDs
-        personAssignments.forEach(pa => uniquePersonIds.add(pa.personId));
-        
-        // Add work item-level person IDs
-        workItemPersonAssignments.forEach(res => {
-          res.data.forEach(pa => uniquePersonIds.add(pa.personId));
-        });
-
-        const assignedPeople = uniquePersonIds.size;
-        const progress = calculateProgress(workItems);
-        
-        const epicCostIds = costAssignments.map((ca: any) => ca.costId);
-        const workItemCostAssignments = await Promise.all(
-          workItems.map((workItem: any) => costAssignmentService.getByWorkItemId(workItem.id))
-        );
-        const workItemCostIds = workItemCostAssignments.flatMap((res: any) => 
-          res.data.map((ca: any) => ca.costId)
-        );
-
-        const allCostIds = [...new Set([...epicCostIds, ...workItemCostIds])];
-
-        let totalCost = 0;
-        if (allCostIds.length > 0) {
-          const costResArr = await Promise.all(
-            allCostIds.map((costId: number) => 
-              import('@/services/costService').then(m => m.costService.getById(costId))
-            )
-          );
-          totalCost = costResArr.reduce((sum: number, res: any) => sum + (res.data.amount || 0), 0);
-        }
-
-        return {
-          ...epic,
-          workItemCount: workItems.length,
-          assignedPeople,
-          totalCost,
-          progress
-        };
-      })
-    );
+    const { data: epicStats } = await epicService.getOverviewByProjectId(projectId);
     setEpics(epicStats);
   };
 
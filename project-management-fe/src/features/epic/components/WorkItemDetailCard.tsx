@@ -63,28 +63,25 @@ const WorkItemDetailCard: React.FC<WorkItemDetailCardProps> = ({
     const fetchAssignmentDetails = async () => {
       setLoading(true);
       try {
-        // Fetch person details for each assignment
-        const personAssignmentsWithDetails = await Promise.all(
-          initialPersonAssignments.map(async (assignment) => {
-            if (assignment.person) return assignment;
-            const personRes = await personService.getById(assignment.personId);
-            return {
-              ...assignment,
-              person: personRes.data,
-            };
-          })
+        // Fetch missing person and cost details in one request each
+        const personIds = Array.from(new Set(initialPersonAssignments
+          .filter((assignment) => !assignment.person)
+          .map((assignment) => assignment.personId)));
+        const costIds = Array.from(new Set(initialCostAssignments
+          .filter((assignment) => !assignment.cost)
+          .map((assignment) => assignment.costId)));
+        const [personsRes, costsRes] = await Promise.all([
+          personIds.length > 0 ? personService.getByIds(personIds) : Promise.resolve({ data: [] }),
+          costIds.length > 0 ? costService.getByIds(costIds) : Promise.resolve({ data: [] }),
+        ]);
+        const personsById = new Map(personsRes.data.map((person: any) => [person.id, person]));
+        const costsById = new Map(costsRes.data.map((cost: any) => [cost.id, cost]));
+
+        const personAssignmentsWithDetails = initialPersonAssignments.map((assignment) =>
+          assignment.person ? assignment : { ...assignment, person: personsById.get(assignment.personId) }
         );
-
-        // Fetch cost details for each assignment
-        const costAssignmentsWithDetails = await Promise.all(
-          initialCostAssignments.map(async (assignment) => {
-            if (assignment.cost) return assignment;
-            const costRes = await costService.getById(assignment.costId);
-            return {
-              ...assignment,
-              cost: costRes.data,
-            };
-          })
+        const costAssignmentsWithDetails = initialCostAssignments.map((assignment) =>
+          assignment.cost ? assignment : { ...assignment, cost: costsById.get(assignment.costId) }
         );
 
         setPersonAssignments(personAssignmentsWithDetails);
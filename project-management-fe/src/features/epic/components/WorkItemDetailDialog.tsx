@@ -16,10 +16,7 @@ import { MoreVertical, Edit, Trash2, UserPlus, DollarSign } from 'lucide-react';
 import type { WorkItem } from '@/lib/types';
 import CreateWorkItemAssignmentDialog from '@/features/shared/CreateWorkItemAssignmentDialog.tsx';
 import CreateWorkItemCostDialog from '@/features/shared/CreateWorkItemCostDialog.tsx';
-import { personAssignmentService } from '@/services/personAssignmentService';
-import { costAssignmentService } from '@/services/costAssignmentService';
-import { personService } from '@/services/personService';
-import { costService } from '@/services/costService';
+import { workItemService } from '@/services/workItemService';
 import { Badge } from '@/components/ui/badge';
 
 interface Person {
@@ -82,39 +79,10 @@ const WorkItemDetailDialog: React.FC<WorkItemDetailDialogProps> = ({
       
       setLoading(true);
       try {
-        // Fetch assignments
-        const [personRes, costRes] = await Promise.all([
-          personAssignmentService.getByWorkItemId(workItem.id),
-          costAssignmentService.getByWorkItemId(workItem.id),
-        ]);
-
-        const personAssignmentsData = personRes.data;
-        const costAssignmentsData = costRes.data;
-
-        // Fetch person details for each assignment
-        const personAssignmentsWithDetails = await Promise.all(
-          personAssignmentsData.map(async (assignment) => {
-            const personRes = await personService.getById(assignment.personId);
-            return {
-              ...assignment,
-              person: personRes.data,
-            };
-          })
-        );
-
-        // Fetch cost details for each assignment
-        const costAssignmentsWithDetails = await Promise.all(
-          costAssignmentsData.map(async (assignment) => {
-            const costRes = await costService.getById(assignment.costId);
-            return {
-              ...assignment,
-              cost: costRes.data,
-            };
-          })
-        );
-
-        setPersonAssignments(personAssignmentsWithDetails);
-        setCostAssignments(costAssignmentsWithDetails);
+        // Assignments come with their person / cost embedded
+        const { data: detail } = await workItemService.getDetail(workItem.id);
+        setPersonAssignments(detail.personAssignments);
+        setCostAssignments(detail.costAssignments);
       } catch (error) {
         console.error('Error fetching assignments:', error);
       } finally {
@@ -36,7 +36,7 @@ const ProjectList = () => {
           // Fetch epics and work items for this project
           const [epicsRes, workItemsRes] = await Promise.all([
             epicService.getByProjectId(project.id),
-            workItemService.getByProjectId(project.id),
+            workItemService.getByProjectId(project.id, ['id']),
           ]);
           const epics = epicsRes.data;
           const workItems = workItemsRes.data;
@@ -44,26 +44,18 @@ const ProjectList = () => {
           const workItemIds = workItems.map((wi: any) => wi.id);
 
           // 3. For each epic and work item, fetch cost assignments
-          const [epicCostAssignments, workItemCostAssignments] = await Promise.all([
+          const [epicCostAssignments, workItemCostAssignments, costTotalRes] = await Promise.all([
             Promise.all(epicIds.map((epicId: number) => costAssignmentService.getByEpicId(epicId))),
             Promise.all(workItemIds.map((wiId: number) => costAssignmentService.getByWorkItemId(wiId))),
+            // 4. The project's total cost is maintained server-side
+            costService.getProjectTotal(project.id),
           ]);
 
-          // Flatten arrays and get unique cost IDs
           const allCostAssignments = [
             ...epicCostAssignments.flatMap(res => res.data),
             ...workItemCostAssignments.flatMap(res => res.data),
           ];
-          const costIds = Array.from(new Set(allCostAssignments.map((ca: any) => ca.costId)));
-
-          // 4. Fetch all costs and sum their amounts
-          let estimatedCost = 0;
-          if (costIds.length > 0) {
-            const costResArr = await Promise.all(
-              costIds.map((costId: number) => costService.getById(costId))
-            );
-            estimatedCost = costResArr.reduce((sum: number, res: any) => sum + (res.data.amount || 0), 0);
-          }
+          const estimatedCost = costTotalRes.data.total;
 
           // 5. Calculate team size (unique persons)
           const teamPersonIds = new Set(allCostAssignments.map((ca: any) => ca.personId));
@@ -91,24 +91,29 @@ const ProjectCostView: React.FC<CostViewProps> = ({ projectId }) => {
         epics.map(async (epic: any) => {
           const epicCostAssignmentsRes = await costAssignmentService.getByEpicId(epic.id);
           const epicCostAssignments = epicCostAssignmentsRes.data;
-          
-          // For each cost assignment, fetch the cost object
-          const costObjs = await Promise.all(
-            epicCostAssignments.map((ca: any) => costService.getById(ca.costId))
-          );
 
           // Get work items for this epic
           const epicWorkItems = filteredWorkItems.filter((wi: any) => wi.epicId === epic.id);
-          
-          // Get work item costs
-          const workItemCosts = await Promise.all(
-            epicWorkItems.map(async (wi: any) => {
-              const wiCostAssignmentsRes = await costAssignmentService.getByWorkItemId(wi.id);
-              const wiCostAssignments = wiCostAssignmentsRes.data;
-              return Promise.all(
-                wiCostAssignments.map((ca: any) => costService.getById(ca.costId))
-              );
-            })
+
+          // Cost assignments of each work item
+          const wiCostAssignmentsArr = await Promise.all(
+            epicWorkItems.map(async (wi: any) => (await costAssignmentService.getByWorkItemId(wi.id)).data)
+          );
+
+          // Resolve every referenced cost object with a single multi-get
+          const costIds = Array.from(new Set([
+            ...epicCostAssignments.map((ca: any) => ca.costId),
+            ...wiCostAssignmentsArr.flat().map((ca: any) => ca.costId),
+          ]));
+          const costsById = new Map<number, any>();
+          if (costIds.length > 0) {
+            const { data: costs } = await costService.getByIds(costIds);
+            costs.forEach((cost: any) => costsById.set(cost.id, cost));
+          }
+
+          const costObjs = epicCostAssignments.map((ca: any) => ({ data: costsById.get(ca.costId) }));
+          const workItemCosts = wiCostAssignmentsArr.map((assignments: any[]) =>
+            assignments.map((ca: any) => ({ data: costsById.get(ca.costId) }))
           );
 
           // Epic-level costs
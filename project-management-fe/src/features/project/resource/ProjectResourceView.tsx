@@ -3,7 +3,6 @@ import { epicService } from '@/services/epicService';
 import { workItemService } from '@/services/workItemService';
 import { personAssignmentService } from '@/services/personAssignmentService';
 import { sprintService } from '@/services/sprintService';
-import { personService } from '@/services/personService';
 import CreatePersonAssignmentDialog from './components/CreatePersonAssignmentDialog';
 import ReallocatePersonAssignmentDialog from './components/ReallocatePersonAssignmentDialog';
 import SprintFilterDialog from '../sprint/components/SprintFilterDialog';
@@ -71,36 +70,21 @@ const ProjectResourceView: React.FC<ResourceViewProps> = ({ projectId }) => {
     initializeSelectedSprints();
   }, [projectId]);
 
-  const fetchPersonNames = async (personIds: number[]) => {
-    try {
-      const uniqueIds = Array.from(new Set(personIds));
-      const personData = await Promise.all(
-        uniqueIds.map(async (id) => {
-          const response = await personService.getById(id);
-          return response.data;
-        })
-      );
-      const nameMap = Object.fromEntries(
-        personData.map(person => [person.id, person.name])
-      );
-      setPersonNames(nameMap);
-    } catch (err) {
-      console.error('Error fetching person names:', err);
-    }
-  };
-
   const fetchData = async () => {
     setLoading(true);
     try {
       // 1. Fetch all epics and work items for the project
-      const [epicsRes, workItemsRes, sprintsRes] = await Promise.all([
+      const [epicsRes, workItemsRes, sprintsRes, rollupRes] = await Promise.all([
         epicService.getByProjectId(projectId),
-        workItemService.getByProjectId(projectId),
+        workItemService.getByProjectId(projectId, ['sprintId', 'epicId', 'location']),
         sprintService.getByProjectId(projectId),
+        // Person x sprint / person x epic hours, summed by the backend for the selected sprints
+        personAssignmentService.getResourceRollup(projectId, selectedSprintIds),
       ]);
       const epics = epicsRes.data;
       const workItems = workItemsRes.data;
       const sprints = sprintsRes.data;
+      const rollup = rollupRes.data;
 
       // Sort sprints by start date ascending
       const sortedSprints = [...sprints].sort((a, b) => {
@@ -133,13 +117,10 @@ const ProjectResourceView: React.FC<ResourceViewProps> = ({ projectId }) => {
       const allProjectWorkItemAssignments = workItemAssignmentsRes.flatMap(res => res.data);
       const allProjectEpicAssignments = epicAssignmentsRes.flatMap(res => res.data);
 
-      // Collect all unique person IDs
-      const allPersonIds = new Set<number>();
-      allProjectWorkItemAssignments.forEach((pa: any) => allPersonIds.add(pa.personId));
-      allProjectEpicAssignments.forEach((pa: any) => allPersonIds.add(pa.personId));
-
-      // Fetch person names
-      await fetchPersonNames(Array.from(allPersonIds));
+      // Person names come with the rollup rows
+      const nameMap: Record<number, string> = {};
+      [...rollup.bySprint, ...rollup.byEpic].forEach(row => { nameMap[row.personId] = row.personName; });
+      setPersonNames(nameMap);
 
       // 2. For each epic, fetch person assignments for epic and its work items
       const epicData = await Promise.all(
@@ -248,16 +229,12 @@ const ProjectResourceView: React.FC<ResourceViewProps> = ({ projectId }) => {
       const selectedSprints = sortedSprints
         .filter(s => selectedSprintIds.includes(s.id));
 
-      // For each person, sum across all epics
-      const personRows = await Promise.all(Array.from(allPersonIds).map(async (personId: number) => {
-        // For each selected sprint, calculate hours
+      // For each person in the rollup, read the per-sprint and epic-level sums
+      const personRows = Object.keys(nameMap).map(Number).map((personId: number) => {
+        // For each selected sprint, look up the aggregated hours
         const sprintHours = selectedSprints.map((sprint) => {
-          // All assignments for this person in this sprint (across all work items in this project)
-          const assignments = filteredWorkItems
-            .filter((wi: any) => wi.sprintId === sprint.id)
-            .flatMap((wi: any) => allProjectWorkItemAssignments.filter((pa: any) => pa.workItemId === wi.id && pa.personId === personId));
-          
-          const totalHours = assignments.reduce((sum: number, pa: any) => sum + (pa.hours || 0), 0);
+          const cell = rollup.bySprint.find(row => row.personId === personId && row.sprintId === sprint.id);
+          const totalHours = cell?.hours || 0;
           const days = calculateDaysFromDates(sprint.startDate, sprint.endDate);
           const fte = (baseFte > 0 && days > 0) ? totalHours / (baseFte * days) : 0;
           
@@ -270,22 +247,23 @@ const ProjectResourceView: React.FC<ResourceViewProps> = ({ projectId }) => {
         });
 
         // Epic-specific allocation for this person
-        const epicOnlyAssignments = allProjectEpicAssignments.filter((pa: any) => pa.personId === personId);
-        const epicOnlyHours = epicOnlyAssignments.reduce((sum: number, pa: any) => sum + (pa.hours || 0), 0);
+        const epicOnlyHours = rollup.byEpic
+          .filter(row => row.personId === personId)
+          .reduce((sum: number, row) => sum + (row.epicHours || 0), 0);
         const epicOnlyFte = (baseFte > 0) ? epicOnlyHours / (baseFte * DEFAULT_BACKLOG_DAYS) : 0;
         const total = sprintHours.reduce((sum: number, s: any) => sum + s.totalHours, 0) + Number(epicOnlyHours.toFixed(1));
         const totalFte = (baseFte > 0) ? total / (baseFte * DEFAULT_BACKLOG_DAYS) : 0;
 
         return {
           personId,
-          personName: getPersonName(personId),
+          personName: nameMap[personId] || `Person ${personId}`,
           sprintHours,
           epicOnlyHours: Number(epicOnlyHours.toFixed(1)),
           epicOnlyFte: Number(epicOnlyFte.toFixed(2)),
           total: Number(total.toFixed(1)),
           totalFte: Number(totalFte.toFixed(2)),
         };
-      }));
+      });
 
       // Sort person rows by name
       personRows.sort((a, b) => a.personName.localeCompare(b.personName));
@@ -301,10 +279,7 @@ const ProjectResourceView: React.FC<ResourceViewProps> = ({ projectId }) => {
 
       const personBySprintDataToSet = [{
         sprints: selectedSprintsForHeader,
-        personRows: personRows.map(row => ({
-          ...row,
-          personName: personNames[row.personId] || `Person ${row.personId}`, // Ensure person name is set
-        }))
+        personRows,
       }];
 
 
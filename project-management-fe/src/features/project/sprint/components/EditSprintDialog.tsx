@@ -4,7 +4,6 @@ import { Button } from '@/components/ui/button';
 import { Input } from '@/components/ui/input';
 import { Label } from '@/components/ui/label';
 import { sprintService } from '@/services/sprintService';
-import { workItemService } from '@/services/workItemService';
 import {
   Select,
   SelectContent,
@@ -12,7 +11,7 @@ import {
   SelectTrigger,
   SelectValue,
 } from "@/components/ui/select";
-import type { Sprint, WorkItem } from '@/lib/types';
+import type { Sprint } from '@/lib/types';
 
 interface EditSprintDialogProps {
   projectId: number;
@@ -53,9 +52,8 @@ const EditSprintDialog: React.FC<EditSprintDialogProps> = ({
 
         // Check for incomplete items if this is an active sprint
         if (sprint?.id && sprint.status === 'ACTIVE') {
-          const { data: workItems } = await workItemService.getBySprintId(sprint.id);
-          const incompleteItems = workItems.some((item: WorkItem) => item.status !== 'DONE');
-          setHasIncompleteItems(incompleteItems);
+          const { data: progress } = await sprintService.getProgress(sprint.id);
+          setHasIncompleteItems(progress.doneCount < progress.workItemCount);
         }
       } catch (err) {
         console.error('Error fetching data:', err);
@@ -3,8 +3,7 @@ import { Card, CardContent, CardHeader, CardTitle } from '@/components/ui/card';
 import { Badge } from '@/components/ui/badge';
 import { Button } from '@/components/ui/button';
 import { Filter } from 'lucide-react';
-import { epicService } from '@/services/epicService';
-import { workItemService } from '@/services/workItemService';
+import { projectService } from '@/services/projectService';
 import { sprintService } from '@/services/sprintService';
 import SprintFilterDialog from '../sprint/components/SprintFilterDialog';
 
@@ -48,6 +47,10 @@ const ProjectTimelineView: React.FC<TimelineViewProps> = ({ projectId }) => {
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
   const [timelineData, setTimelineData] = useState<TimelineEpic[]>([]);
+  const [timelineRange, setTimelineRange] = useState<{ startDate: string | null; endDate: string | null }>({
+    startDate: null,
+    endDate: null,
+  });
   const [showSprintFilterDialog, setShowSprintFilterDialog] = useState(false);
   const [availableSprints, setAvailableSprints] = useState<any[]>([]);
   const [selectedSprintIds, setSelectedSprintIds] = useState<number[]>(() => {
@@ -108,52 +111,11 @@ const ProjectTimelineView: React.FC<TimelineViewProps> = ({ projectId }) => {
           return;
         }
 
-        // Fetch epics
-        const epicsResponse = await epicService.getByProjectId(projectId);
-        const epics = epicsResponse.data;
-
-        // For each epic, fetch its work items
-        const epicsWithWorkItems = await Promise.all(
-          epics.map(async (epic: any) => {
-            const workItemsResponse = await workItemService.getByEpicId(epic.id);
-            const workItems = workItemsResponse.data;
-
-            // Filter work items by selected sprints
-            const filteredWorkItems = workItems.filter((item: any) => 
-              item.location === 'SPRINT' && selectedSprintIds.includes(item.sprintId)
-            );
-
-            // Map work items to timeline format
-            const timelineWorkItems = filteredWorkItems.map((item: any) => {
-              const sprint = availableSprints.find((s: any) => s.id === item.sprintId);
-              
-              return {
-                id: item.id,
-                title: item.title,
-                startDate: sprint?.startDate || epic.startDate,
-                endDate: sprint?.endDate || epic.endDate,
-                status: item.status,
-                location: item.location,
-                sprintName: sprint?.name
-              };
-            });
-
-            return {
-              id: epic.id,
-              title: epic.title,
-              type: 'epic',
-              startDate: epic.startDate,
-              endDate: epic.endDate,
-              status: epic.status,
-              workItems: timelineWorkItems,
-              hasWorkItemsInSelectedSprints: timelineWorkItems.length > 0
-            };
-          })
-        );
-
-        // Filter out epics with no work items in selected sprints
-        const filteredEpics = epicsWithWorkItems.filter(epic => epic.hasWorkItemsInSelectedSprints);
-        setTimelineData(filteredEpics);
+        // Epics come back with only their work items in the selected sprints, each dated by
+        // its sprint, plus the date envelope over the epics and selected sprints
+        const { data: timeline } = await projectService.getTimeline(projectId, selectedSprintIds);
+        setTimelineRange({ startDate: timeline.startDate, endDate: timeline.endDate });
+        setTimelineData(timeline.epics.map((epic: any) => ({ ...epic, type: 'epic' })));
       } catch (err) {
         console.error('Error fetching timeline data:', err);
         setError('Failed to load timeline data.');
@@ -164,7 +126,7 @@ const ProjectTimelineView: React.FC<TimelineViewProps> = ({ projectId }) => {
     };
 
     fetchTimelineData();
-  }, [projectId, selectedSprintIds, availableSprints]);
+  }, [projectId, selectedSprintIds]);
 
   const getStatusColor = (status: string) => {
     switch (status) {
@@ -196,21 +158,9 @@ const ProjectTimelineView: React.FC<TimelineViewProps> = ({ projectId }) => {
   };
 
   const getDatePosition = (startDate: string, endDate: string) => {
-    const allDates = [
-      ...timelineData.flatMap(epic => [
-        new Date(epic.startDate),
-        new Date(epic.endDate)
-      ]),
-      ...availableSprints
-        .filter(sprint => selectedSprintIds.includes(sprint.id))
-        .flatMap(sprint => [
-          new Date(sprint.startDate),
-          new Date(sprint.endDate)
-        ])
-    ];
-
-    const projectStart = new Date(Math.min(...allDates.map(d => d.getTime())));
-    const projectEnd = new Date(Math.max(...allDates.map(d => d.getTime())));
+    // Envelope precomputed by the timeline endpoint
+    const projectStart = new Date(timelineRange.startDate ?? startDate);
+    const projectEnd = new Date(timelineRange.endDate ?? endDate);
     const projectDuration = projectEnd.getTime() - projectStart.getTime();
     
     const itemStart = new Date(startDate);
@@ -1,4 +1,4 @@
-import axios from "axios";
+import axios, { AxiosRequestConfig, AxiosResponse } from "axios";
 
 export const API_BASE_URL = 'http://localhost:8080/api';
 export const API_TIMEOUT = 15000;
@@ -12,9 +12,47 @@ export const api = axios.create({
   },
 });
 
+// Sparse fieldset for list endpoints: only these fields (plus id) are read and returned
+export const fieldParams = (fields?: string[]) => (fields ? { fields: fields.join(',') } : {});
+
+// List endpoints return one page at a time with a rel="next" Link header; this follows the
+// links and returns every row, as a single response
+const nextLink = (link?: string) => link?.match(/<([^>]*)>;\s*rel="next"/)?.[1];
+
+export const getAllPages = async <T = any>(url: string, config?: AxiosRequestConfig): Promise<AxiosResponse<T[]>> => {
+  const first = await api.get<T[]>(url, config);
+  const data = [...first.data];
+  // The link is absolute and already carries the query of the first request
+  let next = nextLink(first.headers.link);
+  while (next) {
+    const page = await api.get<T[]>(next);
+    data.push(...page.data);
+    next = nextLink(page.headers.link);
+  }
+  return { ...first, data };
+};
+
+// Read-your-writes: a response to a write carries its commit time, which goes back with every
+// later request so this client's reads stay on the primary database while the replicas catch up
+const LAST_WRITE_HEADER = 'X-Last-Write';
+let lastWrite: string | undefined;
+
+api.interceptors.request.use(config => {
+  if (lastWrite) {
+    config.headers.set(LAST_WRITE_HEADER, lastWrite);
+  }
+  return config;
+});
+
 // Add response interceptor for error handling
 api.interceptors.response.use(
-  response => response,
+  response => {
+    const committed = response.headers[LAST_WRITE_HEADER.toLowerCase()];
+    if (committed) {
+      lastWrite = String(committed);
+    }
+    return response;
+  },
   error => {
     if (error.response) {
       // The request was made and the server responded with a status code
@@ -4,6 +4,7 @@ export interface Project {
   title: string;
   description: string | null;
   status: 'PLANNING' | 'ACTIVE' | 'ARCHIVED';
+  version?: number;
 }
 
 export interface Epic {
@@ -13,6 +14,7 @@ export interface Epic {
   startDate: string;
   endDate: string;
   projectId: number;
+  version?: number;
 }
 
 export interface Sprint {
@@ -23,6 +25,7 @@ export interface Sprint {
   startDate: string;
   endDate: string;
   projectId: number;
+  version?: number;
 }
 
 export interface WorkItem {
@@ -37,6 +40,7 @@ export interface WorkItem {
   sprintId: number | null;
   projectId: number;
   epicId: number | null;
+  version?: number;
 }
 
 export interface Person {
@@ -44,6 +48,7 @@ export interface Person {
   name: string;
   email: string;
   role: string;
+  version?: number;
 }
 
 export interface Cost {
@@ -52,6 +57,7 @@ export interface Cost {
   description: string | null;
   amount: number;
   category: string;
+  version?: number;
 }
 
 export interface CostAssignment {
@@ -59,6 +65,7 @@ export interface CostAssignment {
   costId: number;
   epicId: number | null;
   workItemId: number | null;
+  version?: number;
 }
 
 export interface PersonAssignment {
@@ -68,4 +75,28 @@ export interface PersonAssignment {
   workItemId: number | null;
   hours: number;
   description: string | null;
+  version?: number;
+}
+
+// Hour matrices aggregated server-side by /person-assignments/rollup/project/{projectId}
+export interface PersonSprintHours {
+  personId: number;
+  personName: string;
+  sprintId: number;
+  hours: number;
+}
+
+export interface PersonEpicHours {
+  personId: number;
+  personName: string;
+  epicId: number;
+  epicHours: number;
+  workItemHours: number;
+}
+
+export interface ResourceRollup {
+  projectId: number;
+  sprintIds: number[] | null;
+  bySprint: PersonSprintHours[];
+  byEpic: PersonEpicHours[];
 }
@@ -8,10 +8,6 @@ import ProjectTimelineView from '@/features/project/timeline/ProjectTimelineView
 import ProjectSprintView from '@/features/project/sprint/ProjectSprintView';
 import ProjectBacklogView from '@/features/project/backlog/ProjectBacklogView';
 import {projectService} from '@/services/projectService';
-import {epicService} from '@/services/epicService';
-import {workItemService} from '@/services/workItemService';
-import {personAssignmentService} from '@/services/personAssignmentService';
-import {costAssignmentService} from '@/services/costAssignmentService';
 
 
 type ViewType = 'epics' | 'resources' | 'costs' | 'timeline' | 'backlog' | 'sprint';
@@ -26,52 +22,13 @@ const ProjectDetail = () => {
     const fetchData = async () => {
       setLoading(true);
       try {
-        // 1. Fetch project
-        const { data: projectData } = await projectService.getById(Number(projectId));
-        // 2. Fetch epics and work items for this project
-        const [epicsRes, workItemsRes] = await Promise.all([
-          epicService.getByProjectId(Number(projectId)),
-          workItemService.getByProjectId(Number(projectId)),
-        ]);
-        const epics = epicsRes.data;
-        const workItems = workItemsRes.data;
-        const epicIds = epics.map((epic: any) => epic.id);
-        const workItemIds = workItems.map((wi: any) => wi.id);
-        // 3. For each epic and work item, fetch person assignments and cost assignments
-        const [epicPersonAssignments, epicCostAssignments] = await Promise.all([
-          Promise.all(epicIds.map((epicId: number) => personAssignmentService.getByEpicId(epicId))),
-          Promise.all(epicIds.map((epicId: number) => costAssignmentService.getByEpicId(epicId))),
-        ]);
-        const [workItemPersonAssignments, workItemCostAssignments] = await Promise.all([
-          Promise.all(workItemIds.map((wiId: number) => personAssignmentService.getByWorkItemId(wiId))),
-          Promise.all(workItemIds.map((wiId: number) => costAssignmentService.getByWorkItemId(wiId))),
-        ]);
-        // Flatten arrays
-        const allPersonAssignments = [
-          ...epicPersonAssignments.flatMap(res => res.data),
-          ...workItemPersonAssignments.flatMap(res => res.data),
-        ];
-        const allCostAssignments = [
-          ...epicCostAssignments.flatMap(res => res.data),
-          ...workItemCostAssignments.flatMap(res => res.data),
-        ];
-        // Sum unique persons
-        const teamPersonIds = new Set(allPersonAssignments.map((pa: any) => pa.personId));
-        const teamSize = teamPersonIds.size;
-        // Retrieve costs for all costAssignments and sum their amount
-        const costIds = Array.from(new Set(allCostAssignments.map((ca: any) => ca.costId)));
-        let estimatedCost = 0;
-        if (costIds.length > 0) {
-          const costResArr = await Promise.all(costIds.map((costId: number) => import('@/services/costService').then(m => m.costService.getById(costId))));
-          estimatedCost = costResArr.reduce((sum: number, res: any) => sum + (res.data.amount || 0), 0);
-        }
-        // Epic count
-        const epicCount = epics.length;
+        // Project header figures come precomputed with the dashboard snapshot
+        const { data: dashboard } = await projectService.getDashboard(Number(projectId));
         setProject({
-          ...projectData,
-          epicCount,
-          teamSize,
-          estimatedCost,
+          ...dashboard.project,
+          epicCount: dashboard.epicCount,
+          teamSize: dashboard.teamSize,
+          estimatedCost: dashboard.estimatedCost,
         });
       } catch (err) {
         setProject(null);
@@ -0,0 +1,27 @@
+import { api } from '../lib/api';
+
+// Requests per batch accepted by the server (BatchController.MAX_REQUESTS)
+export const BATCH_LIMIT = 100;
+
+export interface BatchResponse<T = any> {
+  request: string;
+  status: number;
+  headers: Record<string, string>;
+  body: T;
+}
+
+// Runs several GETs in one round-trip; urls are relative to the server root ("/api/...").
+// With consistent = true all of them read the same database snapshot. Longer lists are split
+// into several batches, which are consistent only within themselves.
+export const batchService = {
+  get: async (requests: string[], consistent = false) => {
+    const chunks: string[][] = [];
+    for (let i = 0; i < requests.length; i += BATCH_LIMIT) {
+      chunks.push(requests.slice(i, i + BATCH_LIMIT));
+    }
+    const results = await Promise.all(
+      chunks.map(chunk => api.post<BatchResponse[]>('/batch', { requests: chunk, consistent }))
+    );
+    return { data: results.flatMap(result => result.data) };
+  },
+};
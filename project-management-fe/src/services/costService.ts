@@ -1,9 +1,15 @@
-import { api } from '../lib/api';
+import { api, getAllPages } from '../lib/api';
 
 export const costService = {
-  getAll: () => api.get('/costs'),
+  getAll: () => getAllPages('/costs'),
   getById: (id: number) => api.get(`/costs/${id}`),
-  getByCategory: (category: string) => api.get(`/costs/category/${category}`),
+  getByIds: (ids: number[]) => api.get('/costs', { params: { ids: ids.join(',') } }),
+  getByCategory: (category: string) => getAllPages(`/costs/category/${category}`),
+  // Precomputed totals: { scope, key, total }
+  getWorkItemTotal: (workItemId: number) => api.get(`/costs/totals/work-item/${workItemId}`),
+  getEpicTotal: (epicId: number) => api.get(`/costs/totals/epic/${epicId}`),
+  getProjectTotal: (projectId: number) => api.get(`/costs/totals/project/${projectId}`),
+  getCategoryTotal: (category: string) => api.get(`/costs/totals/category/${encodeURIComponent(category)}`),
   create: (data: any) => api.post('/costs', data),
   update: (id: number, data: any) => api.put(`/costs/${id}`, data),
   delete: (id: number) => api.delete(`/costs/${id}`),
@@ -1,9 +1,13 @@
-import { api } from '../lib/api';
+import { api, getAllPages } from '../lib/api';
 
 export const epicService = {
-  getAll: () => api.get('/epics'),
+  getAll: () => getAllPages('/epics'),
   getById: (id: number) => api.get(`/epics/${id}`),
-  getByProjectId: (projectId: number) => api.get(`/epics/project/${projectId}`),
+  getByIds: (ids: number[]) => api.get('/epics', { params: { ids: ids.join(',') } }),
+  getByProjectId: (projectId: number) => getAllPages(`/epics/project/${projectId}`),
+  getOverviewByProjectId: (projectId: number) => api.get(`/projects/${projectId}/epic-overview`),
+  // Item and story point counts per status, maintained by the backend
+  getProgress: (id: number) => api.get(`/epics/${id}/progress`),
   create: (data: any) => api.post('/epics', data),
   update: (id: number, data: any) => api.put(`/epics/${id}`, data),
   delete: (id: number) => api.delete(`/epics/${id}`),
@@ -1,11 +1,17 @@
-import { api } from '../lib/api';
+import { api, getAllPages } from '../lib/api';
+import type { ResourceRollup } from '../lib/types';
 
 export const personAssignmentService = {
-  getAll: () => api.get('/person-assignments'),
+  getAll: () => getAllPages('/person-assignments'),
   getById: (id: number) => api.get(`/person-assignments/${id}`),
-  getByPersonId: (personId: number) => api.get(`/person-assignments/person/${personId}`),
-  getByEpicId: (epicId: number) => api.get(`/person-assignments/epic/${epicId}`),
-  getByWorkItemId: (workItemId: number) => api.get(`/person-assignments/work-item/${workItemId}`),
+  getByIds: (ids: number[]) => api.get('/person-assignments', { params: { ids: ids.join(',') } }),
+  getByPersonId: (personId: number) => getAllPages(`/person-assignments/person/${personId}`),
+  getByEpicId: (epicId: number) => getAllPages(`/person-assignments/epic/${epicId}`),
+  getByWorkItemId: (workItemId: number) => getAllPages(`/person-assignments/work-item/${workItemId}`),
+  getResourceRollup: (projectId: number, sprintIds?: number[]) =>
+    api.get<ResourceRollup>(`/person-assignments/rollup/project/${projectId}`, {
+      params: sprintIds && sprintIds.length > 0 ? { sprintIds: sprintIds.join(',') } : undefined,
+    }),
   create: (data: any) => api.post('/person-assignments', data),
   update: (id: number, data: any) => api.put(`/person-assignments/${id}`, data),
   delete: (id: number) => api.delete(`/person-assignments/${id}`),
@@ -1,11 +1,16 @@
-import { api } from '../lib/api';
+import { api, getAllPages, fieldParams } from '../lib/api';
+
+// List lookups take an optional sparse fieldset (see fieldParams)
 
 export const personService = {
-  getAll: () => api.get('/persons'),
+  getAll: (fields?: string[]) => getAllPages('/persons', { params: fieldParams(fields) }),
   getById: (id: number) => api.get(`/persons/${id}`),
-  getByRole: (role: string) => api.get(`/persons/role/${role}`),
+  getByIds: (ids: number[], fields?: string[]) =>
+    api.get('/persons', { params: { ids: ids.join(','), ...fieldParams(fields) } }),
+  getByRole: (role: string, fields?: string[]) =>
+    getAllPages(`/persons/role/${role}`, { params: fieldParams(fields) }),
   getByEmail: (email: string) => api.get(`/persons/email/${email}`),
   create: (data: any) => api.post('/persons', data),
   update: (id: number, data: any) => api.put(`/persons/${id}`, data),
   delete: (id: number) => api.delete(`/persons/${id}`),
-}; 
\ No newline at end of file
+};
@@ -1,9 +1,17 @@
-import { api } from '../lib/api';
+import { api, getAllPages } from '../lib/api';
 
 export const projectService = {
-  getAll: () => api.get('/projects'),
+  getAll: () => getAllPages('/projects'),
   getById: (id: number) => api.get(`/projects/${id}`),
-  getByStatus: (status: string) => api.get(`/projects/status/${status}`),
+  getByIds: (ids: number[]) => api.get('/projects', { params: { ids: ids.join(',') } }),
+  getByStatus: (status: string) => getAllPages(`/projects/status/${status}`),
+  // Epics with sprint-planned work items, sprint bands and the date envelope in one payload
+  getTimeline: (id: number, sprintIds?: number[]) =>
+    api.get(`/projects/${id}/timeline`, {
+      params: sprintIds && sprintIds.length > 0 ? { sprintIds: sprintIds.join(',') } : undefined,
+    }),
+  // Project, epic overview, team size and cost total for ProjectDetail, cached server-side per project version
+  getDashboard: (id: number) => api.get(`/projects/${id}/dashboard`),
   create: (data: any) => api.post('/projects', data),
   update: (id: number, data: any) => api.put(`/projects/${id}`, data),
   delete: (id: number) => api.delete(`/projects/${id}`),
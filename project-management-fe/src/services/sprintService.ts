@@ -1,9 +1,12 @@
-import { api } from '../lib/api';
+import { api, getAllPages } from '../lib/api';
 
 export const sprintService = {
-  getAll: () => api.get('/sprints'),
+  getAll: () => getAllPages('/sprints'),
   getById: (id: number) => api.get(`/sprints/${id}`),
-  getByProjectId: (projectId: number) => api.get(`/sprints/project/${projectId}`),
+  getByIds: (ids: number[]) => api.get('/sprints', { params: { ids: ids.join(',') } }),
+  getByProjectId: (projectId: number) => getAllPages(`/sprints/project/${projectId}`),
+  // Item and story point counts per status, maintained by the backend
+  getProgress: (id: number) => api.get(`/sprints/${id}/progress`),
   create: (data: any) => api.post('/sprints', data),
   update: (id: number, data: any) => api.put(`/sprints/${id}`, data),
   delete: (id: number) => api.delete(`/sprints/${id}`),
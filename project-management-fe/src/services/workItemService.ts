@@ -1,12 +1,21 @@
-import { api } from '../lib/api';
+import { api, getAllPages, fieldParams } from '../lib/api';
+
+// List lookups take an optional sparse fieldset (see fieldParams)
 
 export const workItemService = {
-  getAll: () => api.get('/work-items'),
+  getAll: (fields?: string[]) => getAllPages('/work-items', { params: fieldParams(fields) }),
   getById: (id: number) => api.get(`/work-items/${id}`),
-  getByProjectId: (projectId: number) => api.get(`/work-items/project/${projectId}`),
-  getByEpicId: (epicId: number) => api.get(`/work-items/epic/${epicId}`),
-  getBySprintId: (sprintId: number) => api.get(`/work-items/sprint/${sprintId}`),
+  getByIds: (ids: number[], fields?: string[]) =>
+    api.get('/work-items', { params: { ids: ids.join(','), ...fieldParams(fields) } }),
+  // Work item with its person / cost assignments, person and cost embedded
+  getDetail: (id: number) => api.get(`/work-items/${id}/detail`),
+  getByProjectId: (projectId: number, fields?: string[]) =>
+    getAllPages(`/work-items/project/${projectId}`, { params: fieldParams(fields) }),
+  getByEpicId: (epicId: number, fields?: string[]) =>
+    getAllPages(`/work-items/epic/${epicId}`, { params: fieldParams(fields) }),
+  getBySprintId: (sprintId: number, fields?: string[]) =>
+    getAllPages(`/work-items/sprint/${sprintId}`, { params: fieldParams(fields) }),
   create: (data: any) => api.post('/work-items', data),
   update: (id: number, data: any) => api.put(`/work-items/${id}`, data),
   delete: (id: number) => api.delete(`/work-items/${id}`),
-}; 
\ No newline at end of file
+};